@@ -0,0 +1,122 @@
+package com.hyupmin.config;
+
+import com.hyupmin.config.jwt.JwtTokenCache;
+import com.hyupmin.config.jwt.JwtTokenProvider;
+import com.hyupmin.config.jwt.TokenRevocationRegistry;
+import com.hyupmin.domain.user.UserSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.FilterChainProxy;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나가 보안 필터 체인을 통과하는 비용 (ns/op, -prof gc로 요청당 할당량 B/op)
+ * - preflight: CORS preflight(OPTIONS), CorsFilter에서 바로 응답
+ * - publicPath: permitAll 경로 (JWT 필터 건너뜀)
+ * - authenticated: Bearer 토큰이 있는 인증 요청 (검증된 토큰 캐시 hit)
+ * - 요청/응답 객체 생성 비용이 함께 측정되므로 시나리오끼리 비교할 때는 차이를 본다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {
+    };
+
+    @Param({"preflight", "publicPath", "authenticated"})
+    private String scenario;
+
+    private AnnotationConfigWebApplicationContext context;
+    private FilterChainProxy filterChainProxy;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        context = new AnnotationConfigWebApplicationContext();
+        context.setServletContext(new MockServletContext());
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "jwt.secret", "hyupmin-dev-secret-key-change-in-production",
+                "jwt.expiration", "86400000")));
+        context.register(BenchmarkSecurityConfig.class);
+        context.refresh();
+
+        filterChainProxy = context.getBean(FilterChainProxy.class);
+        token = context.getBean(JwtTokenProvider.class).generateToken(
+                new UserSnapshot(1L, "bench@hyupmin.com", "벤치", "010-0000-0000", null, "hash", false));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse filter() throws Exception {
+        MockHttpServletRequest request = newRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filterChainProxy.doFilter(request, response, NOOP_CHAIN);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    private MockHttpServletRequest newRequest() {
+        switch (scenario) {
+            case "preflight": {
+                MockHttpServletRequest request = new MockHttpServletRequest("OPTIONS", "/api/posts/1");
+                request.addHeader("Origin", "http://localhost:5173");
+                request.addHeader("Access-Control-Request-Method", "GET");
+                return request;
+            }
+            case "publicPath":
+                return new MockHttpServletRequest("POST", "/api/users/login");
+            case "authenticated":
+            default: {
+                MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+                request.addHeader("Authorization", "Bearer " + token);
+                return request;
+            }
+        }
+    }
+
+    /**
+     * 보안 설정과 JWT 관련 빈만 올린 최소 컨텍스트 (DB/JPA 없음)
+     */
+    @Configuration
+    @EnableWebMvc
+    @EnableWebSecurity
+    @Import({SecurityConfig.class, JwtTokenProvider.class, JwtTokenCache.class, TokenRevocationRegistry.class})
+    static class BenchmarkSecurityConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
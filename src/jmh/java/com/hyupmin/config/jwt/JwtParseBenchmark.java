@@ -0,0 +1,63 @@
+package com.hyupmin.config.jwt;
+
+import com.hyupmin.domain.user.UserSnapshot;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 검증 처리량 (tokens/sec)
+ * - legacyDoubleParse: 변경 전 방식 (요청마다 키/파서를 만들고 validateToken + getEmailFromToken으로 두 번 파싱)
+ * - parseOnce: JwtTokenProvider.parseToken (기동 시 만든 키/파서로 한 번 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "hyupmin-dev-secret-key-change-in-production";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "expirationTime", 86_400_000L);
+        jwtTokenProvider.init();
+
+        token = jwtTokenProvider.generateToken(
+                new UserSnapshot(1L, "bench@hyupmin.com", "벤치", "010-0000-0000", null, "hash", false));
+    }
+
+    @Benchmark
+    public String legacyDoubleParse() {
+        // validateToken
+        Key validateKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        Jwts.parserBuilder().setSigningKey(validateKey).build().parseClaimsJws(token);
+        // getEmailFromToken
+        Key emailKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(emailKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return jwtTokenProvider.parseToken(token);
+    }
+}
@@ -0,0 +1,84 @@
+package com.hyupmin.file;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 하나에 파일 1~10개(각 1MB)를 올릴 때 스테이징 시간
+ * - poolSize=1이면 사실상 순서대로 쓰기, 8이면 file.io.pool-size 기본값으로 동시에 쓰기
+ * - 해시 계산 + 디스크 쓰기까지 포함, 측정이 끝날 때마다 스테이징 파일은 지운다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StageFilesBenchmark {
+
+    private static final int FILE_SIZE = 1024 * 1024;
+
+    @Param({"1", "2", "5", "10"})
+    private int files;
+
+    @Param({"1", "8"})
+    private int poolSize;
+
+    private Path fileDir;
+    private FileStore fileStore;
+    private List<MultipartFile> uploads;
+
+    @Setup
+    public void setUp() throws IOException {
+        fileDir = Files.createTempDirectory("hyupmin-jmh-");
+        fileStore = new FileStore(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fileStore, "fileDir", fileDir + "/");
+        ReflectionTestUtils.setField(fileStore, "maxFileSizePerFile", 10L * 1024 * 1024);
+        ReflectionTestUtils.setField(fileStore, "ioPoolSize", poolSize);
+        ReflectionTestUtils.setField(fileStore, "ioQueueCapacity", 100);
+        ReflectionTestUtils.setField(fileStore, "stagingMaxAgeMillis", 3_600_000L);
+        fileStore.initIoExecutor();
+
+        // 파일마다 내용이 달라야 해시 계산/쓰기가 모두 일어남
+        Random random = new Random(42);
+        uploads = new ArrayList<>();
+        for (int i = 0; i < files; i++) {
+            byte[] content = new byte[FILE_SIZE];
+            random.nextBytes(content);
+            uploads.add(new MockMultipartFile("files", "file" + i + ".txt", "text/plain", content));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        fileStore.shutdown();
+        FileSystemUtils.deleteRecursively(fileDir);
+    }
+
+    @Benchmark
+    public int stage() throws IOException {
+        StagedFiles staged = fileStore.stageFiles(uploads);
+        try {
+            return staged.getAttachmentFiles().size();
+        } finally {
+            staged.close();
+        }
+    }
+}
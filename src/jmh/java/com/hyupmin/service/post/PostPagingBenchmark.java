@@ -0,0 +1,71 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.dto.post.PostCursor;
+import com.hyupmin.dto.post.PostScrollResponse;
+import com.hyupmin.dto.post.PostSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 100,000개 프로젝트에서 페이지 깊이별 목록 조회 시간
+ * - offset: getPostsByProject (OFFSET 페이징, page 5000이면 앞의 99,980개를 읽고 버림)
+ * - keyset: scrollPostsByProject (커서 이후만 인덱스로 읽음, 깊이와 관계없이 일정해야 함)
+ * - keyset의 커서는 그 페이지 바로 앞 게시글로 미리 만들어 둔다. (1페이지는 커서 없음)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostPagingBenchmark {
+
+    private static final int POSTS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1", "2500", "5000"})
+    private int page;
+
+    private SeededBoard board;
+    private PostService postService;
+    private String cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        board = SeededBoard.start("paging", POSTS);
+        postService = board.bean(PostService.class);
+        // 목록 총 개수는 project_stats에서 읽으므로 미리 만들어 둠
+        board.jdbcTemplate.update("INSERT INTO project_stats (project_pk, post_count, notice_count, file_post_count, " +
+                "vote_post_count) VALUES (?, ?, 0, 0, 0)", board.projectPk, (long) POSTS);
+
+        if (page > 1) {
+            Long previousPostPk = board.jdbcTemplate.queryForObject(
+                    "SELECT post_pk FROM posts WHERE project_pk = ? ORDER BY post_pk DESC LIMIT 1 OFFSET ?",
+                    Long.class, board.projectPk, (page - 1) * PAGE_SIZE - 1);
+            cursor = new PostCursor(false, previousPostPk).encode();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        board.close();
+    }
+
+    @Benchmark
+    public Page<PostSummary> offset() {
+        return postService.getPostsByProject(board.projectPk, null, null, PageRequest.of(page - 1, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public PostScrollResponse keyset() {
+        return postService.scrollPostsByProject(board.projectPk, cursor, PAGE_SIZE);
+    }
+}
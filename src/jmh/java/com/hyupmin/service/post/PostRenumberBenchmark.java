@@ -0,0 +1,100 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.config.auth.AuthenticatedUser;
+import com.hyupmin.domain.post.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 100,000개 프로젝트에서 1번 글 삭제 (뒤 번호 99,999개 당기기)
+ * - bulkUpdate: PostService.deletePost (bulk UPDATE 2번)
+ * - perEntity: 변경 전 방식 (뒤 번호 게시글을 모두 엔티티로 읽어 하나씩 -1, 더티체킹으로 row마다 UPDATE)
+ * - 한 번이 오래 걸리므로 SingleShotTime으로 회당 시간을 잰다. 매번 끝 번호에 글을 하나 채워 100,000개를 유지한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class PostRenumberBenchmark {
+
+    private static final int POSTS = 100_000;
+
+    private SeededBoard board;
+    private PostService postService;
+    private EntityManager entityManager;
+    private TransactionTemplate transactionTemplate;
+    private AuthenticatedUser author;
+    private Long firstPostPk;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws Exception {
+        board = SeededBoard.start("renumber", POSTS);
+        postService = board.bean(PostService.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(board.bean(EntityManagerFactory.class));
+        transactionTemplate = new TransactionTemplate(board.bean(PlatformTransactionManager.class));
+        author = new AuthenticatedUser(board.userPk, "renumber@hyupmin.com", "작성자");
+    }
+
+    @Setup(Level.Invocation)
+    public void refill() {
+        Long count = board.jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE project_pk = ?", Long.class, board.projectPk);
+        if (count < POSTS) {
+            board.insertPosts(count + 1, POSTS);
+            board.jdbcTemplate.update("UPDATE project_post_sequences SET last_post_number = ? WHERE project_pk = ?",
+                    (long) POSTS, board.projectPk);
+        }
+        firstPostPk = board.jdbcTemplate.queryForObject(
+                "SELECT post_pk FROM posts WHERE project_pk = ? AND post_number = 1", Long.class, board.projectPk);
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        board.close();
+    }
+
+    @Benchmark
+    public void bulkUpdate() {
+        postService.deletePost(firstPostPk, author);
+    }
+
+    @Benchmark
+    public void perEntity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Post post = entityManager.find(Post.class, firstPostPk);
+            Long deletedPostNumber = post.getPostNumber();
+            entityManager.remove(post);
+
+            // JPQL 조회 전에 DELETE가 flush되므로 1번 자리가 비어 있음
+            List<Post> postsToShift = entityManager.createQuery(
+                            "SELECT p FROM Post p WHERE p.project.projectPk = :projectPk " +
+                            "AND p.postNumber > :postNumber ORDER BY p.postNumber ASC", Post.class)
+                    .setParameter("projectPk", board.projectPk)
+                    .setParameter("postNumber", deletedPostNumber)
+                    .getResultList();
+            for (Post p : postsToShift) {
+                p.setPostNumber(p.getPostNumber() - 1);
+            }
+        });
+        board.jdbcTemplate.update("UPDATE project_post_sequences SET last_post_number = last_post_number - 1 " +
+                "WHERE project_pk = ?", board.projectPk);
+    }
+}
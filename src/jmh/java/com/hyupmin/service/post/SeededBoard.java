@@ -0,0 +1,92 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.HyupminApplication;
+import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.user.User;
+import com.hyupmin.repository.project.ProjectRepository;
+import com.hyupmin.repository.user.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용: 인메모리 H2로 애플리케이션을 띄우고 게시글 N개가 있는 프로젝트 하나를 만든다.
+ * - 게시글은 JDBC batch INSERT로 넣는다. (번호 1..N, 시퀀스 row도 N으로)
+ */
+final class SeededBoard implements AutoCloseable {
+
+    private static final String INSERT_POST_SQL =
+            "INSERT INTO posts (project_pk, user_pk, post_number, title, content, is_notice, has_voting, has_file, " +
+            "view_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, FALSE, FALSE, FALSE, 0, ?, ?)";
+    private static final int BATCH_SIZE = 1000;
+
+    final ConfigurableApplicationContext context;
+    final JdbcTemplate jdbcTemplate;
+    final Long userPk;
+    final Long projectPk;
+
+    private SeededBoard(ConfigurableApplicationContext context, Long userPk, Long projectPk) {
+        this.context = context;
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.userPk = userPk;
+        this.projectPk = projectPk;
+    }
+
+    static SeededBoard start(String name, int posts) throws Exception {
+        Path fileDir = Files.createTempDirectory("hyupmin-jmh-");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(HyupminApplication.class)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "server.port=0",
+                        "file.dir=" + fileDir + "/",
+                        "file.layout-migration.enabled=false",
+                        "post.view-count.flush-interval=3600000")
+                .run();
+
+        User user = context.getBean(UserRepository.class)
+                .save(new User("password", "작성자", name + "@hyupmin.com", "010-0000-0000", null));
+        Project project = context.getBean(ProjectRepository.class).save(new Project(name, user));
+
+        SeededBoard board = new SeededBoard(context, user.getUserPk(), project.getProjectPk());
+        board.insertPosts(1, posts);
+        board.jdbcTemplate.update(
+                "INSERT INTO project_post_sequences (project_pk, last_post_number) VALUES (?, ?)",
+                project.getProjectPk(), (long) posts);
+        return board;
+    }
+
+    /**
+     * 번호 from..to 게시글 추가
+     */
+    void insertPosts(long from, long to) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (long number = from; number <= to; number++) {
+            batch.add(new Object[]{projectPk, userPk, number, "게시글 " + number, "본문 " + number, now, now});
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_POST_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_POST_SQL, batch);
+        }
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
@@ -4,11 +4,13 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import java.util.TimeZone;
 
 @SpringBootApplication
 @EnableJpaAuditing  // JPA Auditing 활성화 (BaseTimeEntity의 createdAt, updatedAt 자동 관리)
+@EnableScheduling   // 주기 작업 (토큰 무효화 목록 정리 등)
 public class HyupminApplication {
 
     @PostConstruct
@@ -1,25 +1,71 @@
 package com.hyupmin.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.config.jwt.JwtAuthenticationFilter;
+import com.hyupmin.config.jwt.JwtTokenCache;
 import com.hyupmin.config.jwt.JwtTokenProvider;
+import com.hyupmin.config.jwt.TokenRevocationRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    // 인증 없이 접근 가능한 경로 (JWT 필터도 건너뜀)
+    static final String[] PUBLIC_PATHS = {
+            "/h2-console/**",
+            "/api/users/signup", "/api/users/login", "/api/users/check-email",
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml"
+    };
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+
+    /**
+     * BCrypt cost는 security.bcrypt.strength로 조정 (기본 10)
+     * - 값을 바꿔도 기존 해시는 그대로 검증되고, 다음 로그인 때 새 cost로 다시 저장된다.
+     */
+    @Bean
+    public BCryptPasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
 
+    /**
+     * CORS 정책 (기동 시 한 번만 생성)
+     */
     @Bean
-    public BCryptPasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public CorsConfigurationSource corsConfigurationSource() {
+        CorsConfiguration corsConfiguration = new CorsConfiguration();
+        corsConfiguration.setAllowedOrigins(List.of(
+                "http://localhost:3000",  // React 개발 서버
+                "http://localhost:5173",  // Vite 개발 서버
+                "http://3.22.89.177"  // 프론트엔드 EC2 (Elastic IP)
+        ));
+        corsConfiguration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
+        corsConfiguration.setAllowedHeaders(List.of("*"));
+        corsConfiguration.setAllowCredentials(true);
+        corsConfiguration.setMaxAge(3600L);  // 1시간 동안 preflight 요청 캐시
+
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", corsConfiguration);
+        return source;
     }
 
     @Bean
@@ -28,34 +74,18 @@ public class SecurityConfig {
                 // CSRF 비활성화
                 .csrf(csrf -> csrf.disable())
 
-                // CORS 설정 (프론트엔드 연동)
-                .cors(cors -> cors.configurationSource(request -> {
-                    var corsConfiguration = new org.springframework.web.cors.CorsConfiguration();
-                    corsConfiguration.setAllowedOrigins(java.util.List.of(
-                            "http://localhost:3000",
-                            "http://localhost:5173",
-                            "http://3.22.89.177"  // 프론트엔드 EC2 (Elastic IP)
-                    ));
-                    corsConfiguration.setAllowedMethods(java.util.List.of("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
-                    corsConfiguration.setAllowedHeaders(java.util.List.of("*"));
-                    corsConfiguration.setAllowCredentials(true);
-                    corsConfiguration.setMaxAge(3600L);
-                    return corsConfiguration;
-                }))
+                // CORS 설정 (프론트엔드 연동) - corsConfigurationSource 빈 사용
+                .cors(Customizer.withDefaults())
 
                 // H2 콘솔 frame 허용
                 .headers(headers -> headers.frameOptions(frame -> frame.disable()))
 
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
-                        .requestMatchers("/h2-console/**").permitAll()
-                        .requestMatchers("/api/users/signup", "/api/users/login", "/api/users/check-email").permitAll()
-                        .requestMatchers(
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/v3/api-docs.yaml"
-                        ).permitAll()
+                        .requestMatchers(PUBLIC_PATHS).permitAll()
                         .requestMatchers("/actuator/health", "/actuator/info").permitAll()  // Health Check
                         .anyRequest().authenticated()
                 )
@@ -65,7 +95,7 @@ public class SecurityConfig {
                 .httpBasic(basic -> basic.disable())
 
                 // JWT 필터 추가 (UsernamePasswordAuthenticationFilter 전에 실행)
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtTokenCache, tokenRevocationRegistry, PUBLIC_PATHS), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
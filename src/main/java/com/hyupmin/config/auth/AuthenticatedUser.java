@@ -0,0 +1,19 @@
+package com.hyupmin.config.auth;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 로그인 사용자 정보 (JWT 클레임에서 복원)
+ * - 컨트롤러에서 파라미터로 선언하면 AuthenticatedUserArgumentResolver가 주입한다.
+ * - 매 요청마다 users 테이블을 조회하지 않도록 PK, 이메일, 이름을 토큰에 담아 둔다.
+ * - name은 토큰 발급 시점의 값이므로, 화면 표시 외의 용도로는 DB 값을 사용할 것
+ */
+@Getter
+@RequiredArgsConstructor
+public class AuthenticatedUser {
+
+    private final Long userPk;
+    private final String email;
+    private final String name;
+}
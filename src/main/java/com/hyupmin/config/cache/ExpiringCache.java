@@ -0,0 +1,222 @@
+package com.hyupmin.config.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * 크기 제한 + 만료 시각이 있는 인메모리 캐시
+ * - 엔트리마다 만료 시각(epoch millis)을 가진다. (기본값: 저장 시점 + defaultTtlMillis)
+ * - 만료된 엔트리는 조회 시점에 제거하고, 가득 찼을 때는 만료된 것부터 비운 뒤 임의의 엔트리를 밀어낸다.
+ * - hit / miss / eviction 수를 세고, bindTo()로 actuator(Micrometer)에 노출한다.
+ * - read-through 로딩 도중 무효화가 일어나면 읽어온 값을 저장하지 않는다. (무효화 직전에 읽은 옛 값이 다시 캐시되지 않도록)
+ */
+public class ExpiringCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> store = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long defaultTtlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    // invalidate*가 불릴 때마다 증가 (로딩 도중 무효화가 있었는지 확인용)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ExpiringCache(int maxSize, long defaultTtlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.defaultTtlMillis = defaultTtlMillis;
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료되었으면 null)
+     */
+    public V get(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            if (store.remove(key, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * hit/miss 통계에 넣지 않고 조회 (없거나 만료되었으면 null, 만료된 엔트리를 지우지도 않음)
+     * - 캐시된 값을 갱신하기 위해 찾아볼 때 사용
+     */
+    public V peek(K key) {
+        Entry<V> entry = store.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            return null;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Read-through 조회
+     * - 캐시에 없으면 loader로 읽어와 저장한다. (loader가 null을 주면 저장하지 않음)
+     * - 읽어오는 동안 무효화가 있었으면 값은 돌려주되 저장하지 않는다.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        long stamp = invalidationStamp();
+        value = loader.apply(key);
+        if (value != null) {
+            putIfNotInvalidated(key, value, stamp);
+        }
+        return value;
+    }
+
+    /**
+     * 현재 무효화 카운터 (DB에서 읽기 전에 받아두고 putIfNotInvalidated()에 넘긴다)
+     */
+    public long invalidationStamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * stamp 이후 무효화가 한 번도 없었을 때만 저장
+     * - 무효화는 카운터를 먼저 올리고 지우므로, 저장 직후 카운터를 다시 확인해
+     *   그 사이 무효화가 끼어들었으면 방금 넣은 엔트리를 직접 지운다.
+     */
+    public void putIfNotInvalidated(K key, V value, long stamp) {
+        if (invalidations.get() != stamp) {
+            return;
+        }
+        if (store.size() >= maxSize && !store.containsKey(key)) {
+            makeRoom();
+        }
+        Entry<V> entry = new Entry<>(value, System.currentTimeMillis() + defaultTtlMillis);
+        Entry<V> stored = store.compute(key, (k, current) -> invalidations.get() == stamp ? entry : current);
+        if (stored == entry && invalidations.get() != stamp) {
+            store.remove(key, entry);
+        }
+    }
+
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + defaultTtlMillis);
+    }
+
+    /**
+     * 만료 시각을 직접 지정해서 저장 (예: JWT의 exp)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        if (store.size() >= maxSize && !store.containsKey(key)) {
+            makeRoom();
+        }
+        store.put(key, new Entry<>(value, expiresAtMillis));
+    }
+
+    /**
+     * 저장된 값이 value 그대로일 때만 제거 (무효화로 세지 않음)
+     */
+    public void remove(K key, V value) {
+        store.computeIfPresent(key, (k, entry) -> entry.value == value ? null : entry);
+    }
+
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        store.remove(key);
+    }
+
+    /**
+     * 조건에 맞는 key 전부 제거 (예: 특정 프로젝트에 대한 엔트리 전체)
+     */
+    public void invalidateIf(Predicate<? super K> predicate) {
+        invalidations.incrementAndGet();
+        store.keySet().removeIf(predicate);
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        store.clear();
+    }
+
+    public int size() {
+        return store.size();
+    }
+
+    /**
+     * 만료된 엔트리 정리
+     */
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        for (Map.Entry<K, Entry<V>> e : store.entrySet()) {
+            if (e.getValue().isExpired(now) && store.remove(e.getKey(), e.getValue())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * actuator 메트릭 등록 (/actuator/metrics/cache.gets?tag=cache:{name} 등)
+     */
+    public ExpiringCache<K, V> bindTo(MeterRegistry registry, String name) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", evictions, LongAdder::sum)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", store, Map::size)
+                .tag("cache", name)
+                .register(registry);
+        return this;
+    }
+
+    // 가득 찬 경우: 만료된 엔트리를 먼저 비우고, 그래도 부족하면 앞에서부터 밀어낸다.
+    private void makeRoom() {
+        purgeExpired();
+        Iterator<Map.Entry<K, Entry<V>>> it = store.entrySet().iterator();
+        while (store.size() >= maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.hyupmin.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화 실행 도우미
+ * - 즉시 한 번 실행하고, 트랜잭션 안이라면 커밋 직후에 한 번 더 실행한다.
+ * - 커밋 전에 다른 요청이 옛 값을 다시 읽어 캐시에 넣는 경우를 막기 위함
+ * - 커밋 후 작업은 하나씩 격리해서 실행한다. (하나가 실패해도 같은 트랜잭션에 등록된 나머지 작업은 실행되고,
+ *   이미 커밋된 요청이 실패 응답으로 바뀌지 않음)
+ */
+@Slf4j
+public final class TransactionalInvalidation {
+
+    private TransactionalInvalidation() {
+    }
+
+    public static void run(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runIsolated(invalidation);
+                }
+            });
+        }
+    }
+
+    /**
+     * 커밋이 끝난 뒤에만 실행 (트랜잭션 밖이면 즉시 실행)
+     * - 롤백될 수 있는 변경을 인메모리 구조(검색 색인 등)에 미리 반영하지 않기 위함
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runIsolated(action);
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void runIsolated(Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("커밋 후 작업 실패", e);
+        }
+    }
+}
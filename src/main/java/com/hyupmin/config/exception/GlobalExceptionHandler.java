@@ -12,6 +12,7 @@ import org.springframework.web.context.request.WebRequest;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -76,7 +77,27 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * 3. 기타 RuntimeException 처리 (500 Internal Server Error)
+     * 3. RejectedExecutionException 처리 (503 Service Unavailable)
+     * - 비밀번호 해시 대기열이 가득 찬 경우 (로그인/회원가입 폭주)
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(
+            RejectedExecutionException ex, WebRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value()) // 503
+                .error(HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase()) // "Service Unavailable"
+                .message(ex.getMessage())
+                .path(request.getDescription(false).substring(4))
+                .build();
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * 4. 기타 RuntimeException 처리 (500 Internal Server Error)
      * - UserService에서 User를 못 찾는 경우 등
      * - (참고: User를 못 찾는 경우를 404로 처리하고 싶다면 별도 커스텀 예외가 필요합니다)
      */
@@ -6,17 +6,44 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Arrays;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenCache jwtTokenCache;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final RequestMatcher publicPaths;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    /**
+     * @param publicPaths 인증이 필요 없는 경로 (토큰이 있어도 검증하지 않음)
+     */
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   JwtTokenCache jwtTokenCache,
+                                   TokenRevocationRegistry tokenRevocationRegistry,
+                                   String... publicPaths) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtTokenCache = jwtTokenCache;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.publicPaths = publicPaths.length == 0
+                ? request -> false
+                : new OrRequestMatcher(Arrays.stream(publicPaths)
+                        .map(path -> (RequestMatcher) new AntPathRequestMatcher(path))
+                        .toList());
+    }
+
+    /**
+     * preflight(OPTIONS)와 permitAll 경로는 JWT 처리를 건너뜀
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "OPTIONS".equals(request.getMethod()) || publicPaths.matches(request);
     }
 
     @Override
@@ -29,13 +56,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
+            String tokenHash = jwtTokenCache.hash(token);
+
+            // 1. 이미 검증된 토큰이면 서명 검증 생략
+            JwtClaims claims = jwtTokenCache.get(tokenHash);
 
-            if (jwtTokenProvider.validateToken(token)) {
-                String email = jwtTokenProvider.getEmailFromToken(token);
+            // 2. 처음 보는 토큰이면 검증과 클레임 추출을 한 번의 파싱으로 처리
+            if (claims == null) {
+                claims = jwtTokenProvider.parseToken(token);
+                if (claims != null) {
+                    jwtTokenCache.put(tokenHash, claims);
+                }
+            }
+
+            // 3. 로그아웃/비밀번호 변경/탈퇴로 무효화된 토큰은 인증하지 않음
+            if (claims != null && tokenRevocationRegistry.isRevoked(tokenHash, claims)) {
+                claims = null;
+            }
 
+            if (claims != null) {
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(email, null, null);
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        new UsernamePasswordAuthenticationToken(claims.getUser(), null, null);
 
                 // SecurityContext에 인증 정보 저장
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -44,4 +85,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,24 @@
+package com.hyupmin.config.jwt;
+
+import com.hyupmin.config.auth.AuthenticatedUser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임
+ * - JwtTokenProvider.parseToken()이 토큰을 한 번만 파싱해서 만들어 준다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class JwtClaims {
+
+    private final AuthenticatedUser user;  // sub(email) + uid + name
+    private final Date issuedAt;           // iatms (밀리초), 없으면 iat
+    private final Date expiration;         // exp
+
+    public String getEmail() {
+        return user.getEmail();
+    }
+}
@@ -0,0 +1,57 @@
+package com.hyupmin.config.jwt;
+
+import com.hyupmin.config.cache.ExpiringCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 검증이 끝난 토큰 캐시
+ * - key: 토큰의 SHA-256 해시 (원문 토큰은 메모리에 보관하지 않음)
+ * - value: 검증된 클레임
+ * - 토큰 자신의 exp 시각에 만료되므로, 같은 토큰으로 오는 반복 요청은 HMAC 검증을 건너뛴다.
+ */
+@Component
+public class JwtTokenCache {
+
+    private final ExpiringCache<String, JwtClaims> cache;
+
+    public JwtTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                         @Value("${jwt.expiration}") long expirationTime,
+                         MeterRegistry meterRegistry) {
+        this.cache = new ExpiringCache<String, JwtClaims>(maxSize, expirationTime)
+                .bindTo(meterRegistry, "jwt.verified-tokens");
+    }
+
+    /**
+     * 토큰 해시 계산 (캐시 key)
+     */
+    public String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public JwtClaims get(String tokenHash) {
+        return cache.get(tokenHash);
+    }
+
+    public void put(String tokenHash, JwtClaims claims) {
+        if (claims.getExpiration() == null) {
+            return; // 만료 시각이 없는 토큰은 캐시하지 않음
+        }
+        cache.put(tokenHash, claims, claims.getExpiration().getTime());
+    }
+
+    public void invalidate(String tokenHash) {
+        cache.invalidate(tokenHash);
+    }
+}
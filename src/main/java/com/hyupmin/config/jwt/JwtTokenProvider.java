@@ -1,61 +1,88 @@
 package com.hyupmin.config.jwt;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
+import com.hyupmin.domain.user.UserSnapshot;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 
 @Component
 public class JwtTokenProvider {
 
+    private static final String CLAIM_USER_PK = "uid";
+    private static final String CLAIM_NAME = "name";
+    // 발급 시각 (epoch millis) - 표준 iat는 초 단위라 같은 초의 무효화와 구분할 수 없음
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iatms";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long expirationTime;
 
+    // 서명 키와 파서는 불변 + thread-safe 이므로 기동 시 한 번만 만든다.
+    private Key signingKey;
+    private JwtParser jwtParser;
+
+    @PostConstruct
+    public void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+    }
+
     /**
      * JWT 토큰 생성
+     * - 요청마다 사용자 조회를 하지 않도록 PK와 이름을 클레임에 함께 담는다.
      */
-    public String generateToken(String email) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
+    public String generateToken(UserSnapshot user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationTime);
 
         return Jwts.builder()
-                .setSubject(email)
+                .setSubject(user.getEmail())
+                .claim(CLAIM_USER_PK, user.getUserPk())
+                .claim(CLAIM_NAME, user.getName())
+                .claim(CLAIM_ISSUED_AT_MILLIS, now.getTime())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key, SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     /**
-     * 토큰에서 이메일 추출
-     */
-    public String getEmailFromToken(String token) {
-        Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-        return Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-    /**
-     * 토큰 유효성 검증
+     * 토큰 검증 + 클레임 추출
+     * - 서명/만료 검증과 파싱을 한 번에 처리한다.
+     * - 유효하지 않은 토큰이면 null 반환
+     * - uid 클레임이 없는 이전 형식의 토큰도 null (재로그인 필요)
      */
-    public boolean validateToken(String token) {
+    public JwtClaims parseToken(String token) {
         try {
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes());
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+            Long userPk = claims.get(CLAIM_USER_PK, Long.class);
+            if (userPk == null || claims.getSubject() == null) {
+                return null;
+            }
+
+            AuthenticatedUser user = new AuthenticatedUser(
+                    userPk,
+                    claims.getSubject(),
+                    claims.get(CLAIM_NAME, String.class)
+            );
+            // iatms가 없는 이전 토큰은 초 단위 iat 그대로 (내림값이므로 무효화 판단은 더 보수적)
+            Long issuedAtMillis = claims.get(CLAIM_ISSUED_AT_MILLIS, Long.class);
+            Date issuedAt = issuedAtMillis != null ? new Date(issuedAtMillis) : claims.getIssuedAt();
+            return new JwtClaims(user, issuedAt, claims.getExpiration());
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,129 @@
+package com.hyupmin.config.jwt;
+
+import com.hyupmin.config.cache.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 만료 전 토큰 무효화 (로그아웃 / 비밀번호 변경 / 회원 탈퇴)
+ * - 사용자별 "not-before" 시각: 이 시각 이전에 발급된 그 사용자의 토큰은 모두 무효 (밀리초 단위)
+ * - 토큰별 무효 목록: 로그아웃한 토큰 하나만 무효 (key: 토큰 SHA-256 해시)
+ * - 앞단의 Bloom filter가 "무효화된 적 없음"을 바로 걸러내므로, 대부분의 요청은 맵 조회 없이 통과한다.
+ * - 엔트리는 해당 토큰들이 어차피 만료되는 시각이 지나면 정리된다.
+ *
+ * 인메모리 구조이므로 서버 재시작 시 초기화되고, 인스턴스 간 공유되지 않는다.
+ */
+@Component
+public class TokenRevocationRegistry {
+
+    private static final String USER_KEY = "u:";
+    private static final String TOKEN_KEY = "t:";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtTokenCache jwtTokenCache;
+    private final long expirationTime;
+    private final int bloomExpectedInsertions;
+
+    // userPk -> not-before (epoch millis, 이 시각부터 발급된 토큰만 유효)
+    private final ConcurrentHashMap<Long, Long> notBeforeByUser = new ConcurrentHashMap<>();
+    // 토큰 해시 -> 토큰 만료 시각 (epoch millis)
+    private final ConcurrentHashMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter filter;
+
+    public TokenRevocationRegistry(JwtTokenProvider jwtTokenProvider,
+                                   JwtTokenCache jwtTokenCache,
+                                   @Value("${jwt.expiration}") long expirationTime,
+                                   @Value("${jwt.revocation.bloom-expected-insertions:10000}") int bloomExpectedInsertions,
+                                   MeterRegistry meterRegistry) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtTokenCache = jwtTokenCache;
+        this.expirationTime = expirationTime;
+        this.bloomExpectedInsertions = bloomExpectedInsertions;
+        this.filter = new BloomFilter(bloomExpectedInsertions, 0.01);
+
+        Gauge.builder("jwt.revocations", notBeforeByUser, ConcurrentHashMap::size)
+                .tag("type", "user")
+                .register(meterRegistry);
+        Gauge.builder("jwt.revocations", revokedTokens, ConcurrentHashMap::size)
+                .tag("type", "token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 무효화된 토큰인지 확인 (상수 시간)
+     */
+    public boolean isRevoked(String tokenHash, JwtClaims claims) {
+        Long userPk = claims.getUser().getUserPk();
+        BloomFilter current = filter;
+        boolean userMaybe = current.mightContain(USER_KEY + userPk);
+        boolean tokenMaybe = current.mightContain(TOKEN_KEY + tokenHash);
+        if (!userMaybe && !tokenMaybe) {
+            return false;
+        }
+
+        if (userMaybe) {
+            Long notBefore = notBeforeByUser.get(userPk);
+            if (notBefore != null) {
+                Date issuedAt = claims.getIssuedAt();
+                if (issuedAt == null || issuedAt.getTime() < notBefore) {
+                    return true;
+                }
+            }
+        }
+        return tokenMaybe && revokedTokens.containsKey(tokenHash);
+    }
+
+    /**
+     * 사용자의 지금까지 발급된 토큰 전부 무효화 (비밀번호 변경, 회원 탈퇴)
+     */
+    public synchronized void revokeAllFor(Long userPk) {
+        // 무효화한 밀리초에 발급된 토큰까지 무효, 그 다음 밀리초부터 발급된 토큰(변경 직후 재로그인)은 유효
+        long notBefore = System.currentTimeMillis() + 1;
+        notBeforeByUser.merge(userPk, notBefore, Math::max);
+        filter.put(USER_KEY + userPk);
+    }
+
+    /**
+     * 토큰 하나만 무효화 (로그아웃)
+     */
+    public synchronized void revokeToken(String token) {
+        String tokenHash = jwtTokenCache.hash(token);
+        JwtClaims claims = jwtTokenCache.get(tokenHash);
+        if (claims == null) {
+            claims = jwtTokenProvider.parseToken(token);
+        }
+        if (claims == null || claims.getExpiration() == null) {
+            return; // 이미 유효하지 않은 토큰
+        }
+        revokedTokens.put(tokenHash, claims.getExpiration().getTime());
+        filter.put(TOKEN_KEY + tokenHash);
+        jwtTokenCache.invalidate(tokenHash);
+    }
+
+    /**
+     * 만료된 엔트리 정리 + Bloom filter 재구성
+     * - not-before 이전에 발급된 토큰은 not-before + 만료시간이 지나면 모두 만료되어 있다.
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.purge-interval:600000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        boolean removedUsers = notBeforeByUser.values().removeIf(notBefore -> notBefore + expirationTime < now);
+        boolean removedTokens = revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+        if (!removedUsers && !removedTokens) {
+            return;
+        }
+
+        int expected = Math.max(bloomExpectedInsertions, (notBeforeByUser.size() + revokedTokens.size()) * 2);
+        BloomFilter rebuilt = new BloomFilter(expected, 0.01);
+        notBeforeByUser.keySet().forEach(userPk -> rebuilt.put(USER_KEY + userPk));
+        revokedTokens.keySet().forEach(tokenHash -> rebuilt.put(TOKEN_KEY + tokenHash));
+        this.filter = rebuilt;
+    }
+}
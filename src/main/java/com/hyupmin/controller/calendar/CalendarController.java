@@ -1,12 +1,12 @@
 package com.hyupmin.controller.calendar;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.dto.calendar.CalendarEventCreateRequest;
 import com.hyupmin.dto.calendar.CalendarEventResponse;
 import com.hyupmin.service.calendar.CalendarEventService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,9 +21,9 @@ public class CalendarController {
     // 전체 프로젝트 일정 조회 (홈페이지)
     @GetMapping("/me")
     public ResponseEntity<List<CalendarEventResponse>> getAllEventByProject(
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        List<CalendarEventResponse> response = calendarEventService.getAllMyEvents(email);
+        List<CalendarEventResponse> response = calendarEventService.getAllMyEvents(loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -32,9 +32,9 @@ public class CalendarController {
     @GetMapping ("/projects/{projectId}")
     public ResponseEntity<List<CalendarEventResponse>> getEventsByProject(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) { // 프로젝트 멤버 권한 확인용
+            AuthenticatedUser loginUser) { // 프로젝트 멤버 권한 확인용
 
-        List<CalendarEventResponse> response = calendarEventService.getEventsByProject(projectId, email);
+        List<CalendarEventResponse> response = calendarEventService.getEventsByProject(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -43,9 +43,9 @@ public class CalendarController {
     public ResponseEntity<CalendarEventResponse> createEvent(
             @PathVariable Long projectId,
             @RequestBody CalendarEventCreateRequest request,
-            @AuthenticationPrincipal String email) { // 등록자 이메일
+            AuthenticatedUser loginUser) { // 등록자
 
-        CalendarEventResponse response = calendarEventService.createEvent(projectId, request, email);
+        CalendarEventResponse response = calendarEventService.createEvent(projectId, request, loginUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
@@ -54,9 +54,9 @@ public class CalendarController {
     @GetMapping("/upcoming")
     public ResponseEntity<List<CalendarEventResponse>> getUpcomingEvents(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        List<CalendarEventResponse> response = calendarEventService.getUpcomingEvents(projectId, email);
+        List<CalendarEventResponse> response = calendarEventService.getUpcomingEvents(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -65,9 +65,9 @@ public class CalendarController {
     public ResponseEntity<CalendarEventResponse> getEvent(
             @PathVariable Long projectId, // 경로 일관성 유지
             @PathVariable Long eventId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        CalendarEventResponse response = calendarEventService.getEvent(eventId, email);
+        CalendarEventResponse response = calendarEventService.getEvent(eventId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -77,9 +77,9 @@ public class CalendarController {
             @PathVariable Long projectId, // 경로 일관성 유지
             @PathVariable Long eventId,
             @RequestBody CalendarEventCreateRequest request,
-            @AuthenticationPrincipal String email) { // 수정 권한 확인용
+            AuthenticatedUser loginUser) { // 수정 권한 확인용
 
-        CalendarEventResponse response = calendarEventService.updateEvent(eventId, request, email);
+        CalendarEventResponse response = calendarEventService.updateEvent(eventId, request, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -88,9 +88,9 @@ public class CalendarController {
     public ResponseEntity<Void> deleteEvent(
             @PathVariable Long projectId, // 경로 일관성 유지
             @PathVariable Long eventId,
-            @AuthenticationPrincipal String email) { // 삭제 권한 확인용
+            AuthenticatedUser loginUser) { // 삭제 권한 확인용
 
-        calendarEventService.deleteEvent(eventId, email);
+        calendarEventService.deleteEvent(eventId, loginUser);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
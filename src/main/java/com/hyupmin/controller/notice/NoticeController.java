@@ -1,11 +1,11 @@
 package com.hyupmin.controller.notice;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.domain.notice.NoticeResponse;
 import com.hyupmin.service.notice.NoticeService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,9 +22,9 @@ public class NoticeController {
     @GetMapping
     public ResponseEntity<List<NoticeResponse>> getNotices(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        List<NoticeResponse> response = noticeService.getNoticesByProject(projectId, email);
+        List<NoticeResponse> response = noticeService.getNoticesByProject(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -33,12 +33,12 @@ public class NoticeController {
     public ResponseEntity<NoticeResponse> createNotice(
             @PathVariable Long projectId,
             @RequestBody Map<String, String> request,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
         String title = request.get("title");
         String content = request.get("content");
 
-        NoticeResponse response = noticeService.createNotice(projectId, title, content, email);
+        NoticeResponse response = noticeService.createNotice(projectId, title, content, loginUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 }
\ No newline at end of file
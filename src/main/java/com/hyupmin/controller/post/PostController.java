@@ -4,28 +4,32 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hyupmin.domain.attachmentFile.AttachmentFile;
 import com.hyupmin.dto.post.PostCreateRequest;
 import com.hyupmin.dto.post.PostResponse;
+import com.hyupmin.dto.post.PostScrollResponse;
 import com.hyupmin.dto.post.PostUpdateRequest;
 import com.hyupmin.dto.post.PostSearchType;
+import com.hyupmin.dto.post.PostSummary;
+import com.hyupmin.file.ByteRange;
+import com.hyupmin.file.FileStore;
+import com.hyupmin.file.StagedFiles;
+import com.hyupmin.file.ThumbnailGenerator;
 import com.hyupmin.repository.attachmentFile.AttachmentFileRepository;
 import com.hyupmin.service.post.PostService;
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.net.MalformedURLException;
 import java.net.URLEncoder;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -33,6 +37,7 @@ import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequiredArgsConstructor
@@ -41,6 +46,8 @@ public class PostController {
 
     private final PostService postService;
     private final AttachmentFileRepository attachmentFileRepository;
+    private final FileStore fileStore;
+    private final ThumbnailGenerator thumbnailGenerator;
 
     /**
      * 게시글 생성 API
@@ -48,7 +55,7 @@ public class PostController {
      */
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PostResponse> createPost(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @RequestPart("post") String postJson,
             @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) throws IOException {
@@ -56,9 +63,12 @@ public class PostController {
         ObjectMapper objectMapper = new ObjectMapper();
         PostCreateRequest request = objectMapper.readValue(postJson, PostCreateRequest.class);
 
-        PostResponse response = postService.createPost(request, files, userEmail);
+        // 파일은 트랜잭션 밖에서 먼저 스테이징 (커밋 실패 시 close()에서 정리)
+        try (StagedFiles stagedFiles = fileStore.stageFiles(files)) {
+            PostResponse response = postService.createPost(request, stagedFiles, loginUser);
 
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        }
     }
 
     /**
@@ -68,10 +78,10 @@ public class PostController {
     @GetMapping("/{postId}")
     public ResponseEntity<PostResponse> getPostById(
             @PathVariable Long postId,
-            @AuthenticationPrincipal String userEmail
+            AuthenticatedUser loginUser
     ) {
 
-        PostResponse response = postService.getPostById(postId, userEmail);
+        PostResponse response = postService.getPostById(postId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -81,14 +91,16 @@ public class PostController {
      */
     @PutMapping(value = "/{postId}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<PostResponse> updatePost(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long postId,
             @RequestPart("post") PostUpdateRequest request,
             @RequestPart(value = "files", required = false) List<MultipartFile> files
     ) throws IOException {
 
-        PostResponse response = postService.updatePost(postId, request, files, userEmail);
-        return ResponseEntity.ok(response);
+        try (StagedFiles stagedFiles = fileStore.stageFiles(files)) {
+            PostResponse response = postService.updatePost(postId, request, stagedFiles, loginUser);
+            return ResponseEntity.ok(response);
+        }
     }
 
     /**
@@ -97,10 +109,10 @@ public class PostController {
      */
     @DeleteMapping("/{postId}")
     public ResponseEntity<Map<String, Object>> deletePost(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long postId) {
 
-        postService.deletePost(postId, userEmail);
+        postService.deletePost(postId, loginUser);
 
         Map<String, Object> response = new HashMap<>();
         response.put("message", "게시글이 성공적으로 삭제되었습니다.");
@@ -114,29 +126,44 @@ public class PostController {
      * [GET] /api/posts
      */
     @GetMapping
-    public ResponseEntity<Page<PostResponse>> getAllPosts(
+    public ResponseEntity<Page<PostSummary>> getAllPosts(
             @RequestParam Long projectPk,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false, defaultValue = "ALL") PostSearchType searchType,
             @PageableDefault(size = 10, sort = {"isNotice", "createdAt"}, direction = Sort.Direction.DESC)
             Pageable pageable) {
 
-        Page<PostResponse> responsePage =
+        Page<PostSummary> responsePage =
                 postService.getPostsByProject(projectPk, keyword, searchType, pageable);
 
         return ResponseEntity.ok(responsePage);
     }
 
+    /**
+     * 게시글 목록 조회 API (커서 기반 무한 스크롤)
+     * [GET] /api/posts/scroll?projectPk=1&cursor=...&size=10
+     * - 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 넘긴다.
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<PostScrollResponse> scrollPosts(
+            @RequestParam Long projectPk,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        int pageSize = Math.max(1, Math.min(size, 100));
+        return ResponseEntity.ok(postService.scrollPostsByProject(projectPk, cursor, pageSize));
+    }
+
     /**
      * 게시글 공지사항 등록 API
      * [PATCH] /api/posts/{postId}/notice
      */
     @PatchMapping("/{postId}/notice")
     public ResponseEntity<PostResponse> markAsNotice(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long postId) {
 
-        PostResponse response = postService.markAsNotice(postId, userEmail);
+        PostResponse response = postService.markAsNotice(postId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -146,10 +173,10 @@ public class PostController {
      */
     @PatchMapping("/{postId}/notice/cancel")
     public ResponseEntity<PostResponse> unmarkAsNotice(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long postId) {
 
-        PostResponse response = postService.unmarkAsNotice(postId, userEmail);
+        PostResponse response = postService.unmarkAsNotice(postId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -168,36 +195,30 @@ public class PostController {
     /**
      * 특정 게시글의 첨부파일 다운로드
      * [GET] /api/posts/{postId}/attachments/{attachmentId}/download
+     * - Range / If-Range 지원 (끊긴 다운로드는 이어받기, 206 Partial Content)
+     * - ETag는 저장 파일명(내용의 SHA-256, 해시 저장 이전 파일은 UUID — 어느 쪽이든 내용이 바뀌지 않음)으로 만든 strong ETag
+     * - Content-Type은 저장된 확장자(fileType)로 결정
      */
     @GetMapping("/{postId}/attachments/{attachmentId}/download")
-    public ResponseEntity<Resource> downloadAttachment(
+    public ResponseEntity<StreamingResponseBody> downloadAttachment(
             @PathVariable Long postId,
-            @PathVariable Long attachmentId
-    ) throws MalformedURLException, UnsupportedEncodingException {
-
-        AttachmentFile attachment = attachmentFileRepository
-                .findByAttachmentPkAndIsDeletedFalse(attachmentId)
-                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다."));
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) throws IOException {
 
-        if (!attachment.getPost().getPostPk().equals(postId)) {
-            throw new IllegalArgumentException("해당 게시글의 첨부파일이 아닙니다.");
-        }
+        AttachmentFile attachment = findAttachment(postId, attachmentId);
 
         Path filePath = Paths.get(attachment.getFilePath());
-
-        Resource resource = new UrlResource(filePath.toUri());
-        if (!resource.exists() || !resource.isReadable()) {
+        if (!Files.isReadable(filePath)) {
             throw new IllegalStateException("파일을 읽을 수 없습니다.");
         }
+        long size = Files.size(filePath);
 
-        String contentType;
-        try {
-            contentType = Files.probeContentType(filePath);
-        } catch (Exception e) {
-            contentType = null;
-        }
-        if (contentType == null) {
-            contentType = "application/octet-stream";
+        String etag = "\"" + attachment.getStoredFileName() + "\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
         }
 
         String encodedFileName = URLEncoder.encode(attachment.getOriginalFileName(), "UTF-8")
@@ -205,9 +226,79 @@ public class PostController {
 
         String contentDisposition = "attachment; filename=\"" + encodedFileName + "\"";
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.parseMediaType(contentType))
+        // If-Range가 현재 ETag와 다르면(파일이 바뀐 경우) Range를 무시하고 전체를 내려줌
+        ByteRange byteRange = (ifRange == null || ifRange.equals(etag))
+                ? ByteRange.parse(range, size)
+                : null;
+
+        if (byteRange != null && !byteRange.isSatisfiable()) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */" + size)
+                    .build();
+        }
+
+        long start = byteRange == null ? 0 : byteRange.start();
+        long length = byteRange == null ? size : byteRange.length();
+
+        ResponseEntity.BodyBuilder response = byteRange == null
+                ? ResponseEntity.ok()
+                : ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                        .header(HttpHeaders.CONTENT_RANGE, byteRange.toContentRange(size));
+
+        return response
+                .contentType(MediaType.parseMediaType(FileStore.contentTypeOf(attachment.getFileType())))
+                .contentLength(length)
+                .eTag(etag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
                 .header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition)
-                .body(resource);
+                .body(FileStore.streamRange(filePath, start, length));
+    }
+
+    /**
+     * 이미지 첨부파일 썸네일 API (jpg, jpeg, png)
+     * [GET] /api/posts/{postId}/attachments/{attachmentId}/thumbnail
+     * - 업로드 후 미리 만들어 두고, 없으면 이 요청에서 만든다.
+     * - 저장 파일명(내용 해시)이 바뀌지 않으므로 브라우저가 오래 캐시하도록 immutable로 내려준다.
+     */
+    @GetMapping("/{postId}/attachments/{attachmentId}/thumbnail")
+    public ResponseEntity<StreamingResponseBody> getAttachmentThumbnail(
+            @PathVariable Long postId,
+            @PathVariable Long attachmentId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) throws IOException {
+
+        AttachmentFile attachment = findAttachment(postId, attachmentId);
+        if (!ThumbnailGenerator.supports(attachment.getFileType())) {
+            throw new IllegalArgumentException("썸네일을 지원하지 않는 파일 형식입니다.");
+        }
+
+        CacheControl cacheControl = CacheControl.maxAge(365, TimeUnit.DAYS).cachePrivate().immutable();
+        String etag = "\"" + attachment.getStoredFileName() + "-thumb\"";
+        if (etag.equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+
+        Path thumbnail = thumbnailGenerator.getOrCreate(Paths.get(attachment.getFilePath()))
+                .orElseThrow(() -> new IllegalStateException("썸네일을 만들 수 없는 이미지입니다."));
+        long size = Files.size(thumbnail);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.IMAGE_PNG)
+                .contentLength(size)
+                .eTag(etag)
+                .cacheControl(cacheControl)
+                .body(FileStore.streamRange(thumbnail, 0, size));
+    }
+
+    // 게시글에 속한 (삭제되지 않은) 첨부파일 조회
+    private AttachmentFile findAttachment(Long postId, Long attachmentId) {
+        AttachmentFile attachment = attachmentFileRepository
+                .findByAttachmentPkAndIsDeletedFalse(attachmentId)
+                .orElseThrow(() -> new IllegalArgumentException("첨부파일을 찾을 수 없습니다."));
+
+        if (!attachment.getPost().getPostPk().equals(postId)) {
+            throw new IllegalArgumentException("해당 게시글의 첨부파일이 아닙니다.");
+        }
+        return attachment;
     }
 }
@@ -1,12 +1,12 @@
 package com.hyupmin.controller.project;
 
 import jakarta.validation.Valid;
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.dto.project.*;
 import com.hyupmin.service.project.ProjectService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.parameters.P;
 import org.springframework.web.bind.annotation.*;
 
@@ -23,18 +23,18 @@ public class ProjectController {
     @PostMapping
     public ResponseEntity<ProjectResponseDTO> createProject(
             @RequestBody ProjectCreateRequest request,
-            @AuthenticationPrincipal String email) { // JWT 토큰에서 사용자 이메일 추출
+            AuthenticatedUser loginUser) { // JWT 토큰에서 로그인 사용자 정보 추출
 
-        ProjectResponseDTO response = projectService.createProject(request, email);
+        ProjectResponseDTO response = projectService.createProject(request, loginUser);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     // 참여 중인 프로젝트 목록 조회
     @GetMapping("/me")
     public ResponseEntity<List<ProjectListResponse>> getMyProjects(
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        List<ProjectListResponse> response = projectService.getParticipatingProjects(email);
+        List<ProjectListResponse> response = projectService.getParticipatingProjects(loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -42,9 +42,9 @@ public class ProjectController {
     @GetMapping("/{projectId}")
     public ResponseEntity<ProjectResponseDTO> getProject(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        ProjectResponseDTO response = projectService.getProject(projectId, email);
+        ProjectResponseDTO response = projectService.getProject(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -53,9 +53,9 @@ public class ProjectController {
     public ResponseEntity<ProjectResponseDTO> updateProject(
             @PathVariable Long projectId,
             @Valid @RequestBody ProjectCreateRequest request,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        ProjectResponseDTO response = projectService.updateProject(projectId, request, email);
+        ProjectResponseDTO response = projectService.updateProject(projectId, request, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -64,20 +64,30 @@ public class ProjectController {
     public ResponseEntity<Void> deleteProject(
             @PathVariable Long projectId,
             @RequestBody ProjectLeaveRequest request,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        projectService.deleteProject(projectId, email, request.getProjectName());
+        projectService.deleteProject(projectId, loginUser, request.getProjectName());
         return ResponseEntity.noContent().build();
     }
 
+    // 프로젝트 게시글 통계 조회 (대시보드)
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<ProjectStatsResponse> getProjectStats(
+            @PathVariable Long projectId,
+            AuthenticatedUser loginUser) {
+
+        ProjectStatsResponse response = projectService.getProjectStats(projectId, loginUser);
+        return ResponseEntity.ok(response);
+    }
+
     // 프로젝트 참여 코드 조회 <- 관지라, 사용자 둘 다 프로젝트 관리에서 볼 수 있으니 필요 없을 듯
     @GetMapping("/{projectId}/join-code")
     public ResponseEntity<ProjectCodeResponse> getProjectCode(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
         // Service에서 방장 권한 확인 후 JoinCode 반환 로직 구현 필요x
-        ProjectCodeResponse response = projectService.getProjectJoinCode(projectId, email);
+        ProjectCodeResponse response = projectService.getProjectJoinCode(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -86,9 +96,9 @@ public class ProjectController {
     public ResponseEntity<Void> leaveProject(
             @PathVariable Long projectId,
             @RequestBody ProjectLeaveRequest request, // 확인용 프로젝트 이름
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        projectService.leaveProject(projectId, email, request.getProjectName());
+        projectService.leaveProject(projectId, loginUser, request.getProjectName());
         return ResponseEntity.noContent().build();
     }
 
@@ -96,9 +106,9 @@ public class ProjectController {
     @PostMapping("/join-request")
     public ResponseEntity<ProjectJoinRequestResponse> requestJoin(
             @RequestParam("code") String joinCode, // /join-request?code="프로젝트 참여 코드"
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        ProjectJoinRequestResponse response = projectService.requestJoin(joinCode, email);
+        ProjectJoinRequestResponse response = projectService.requestJoin(joinCode, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -106,9 +116,9 @@ public class ProjectController {
     @GetMapping("/{projectId}/join-requests")
     public ResponseEntity<List<ProjectJoinRequestResponse>> getPendingRequests(
             @PathVariable Long projectId,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        List<ProjectJoinRequestResponse> response = projectService.getPendingRequestsList(projectId, email);
+        List<ProjectJoinRequestResponse> response = projectService.getPendingRequestsList(projectId, loginUser);
         return ResponseEntity.ok(response);
     }
 
@@ -117,9 +127,9 @@ public class ProjectController {
     public ResponseEntity<ProjectResponseDTO> approveJoin(
             @PathVariable Long projectId,
             @PathVariable Long projectUserPk, // 승인할 요청의 ProjectUser PK
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        ProjectResponseDTO response = projectService.approveProject(projectId, email, projectUserPk);
+        ProjectResponseDTO response = projectService.approveProject(projectId, loginUser, projectUserPk);
         return ResponseEntity.ok(response);
     }
 
@@ -128,9 +138,9 @@ public class ProjectController {
     public ResponseEntity<Void> rejectJoin(
             @PathVariable Long projectId,
             @PathVariable Long projectUserPk, // 거절할 요청의 ProjectUser PK
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        projectService.rejectProjectJoin(projectId, projectUserPk, email);
+        projectService.rejectProjectJoin(projectId, projectUserPk, loginUser);
         return ResponseEntity.noContent().build();
     }
 
@@ -139,9 +149,9 @@ public class ProjectController {
     public ResponseEntity<Void> expel(
             @PathVariable Long projectId,
             @PathVariable Long projectUserPk,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        projectService.expelProjectMember(projectId, projectUserPk, email);
+        projectService.expelProjectMember(projectId, projectUserPk, loginUser);
         return ResponseEntity.noContent().build();
     }
 
@@ -150,9 +160,9 @@ public class ProjectController {
     public ResponseEntity<Void> transferOwnership(
             @PathVariable Long projectId,
             @PathVariable Long targetUserPk,
-            @AuthenticationPrincipal String email) {
+            AuthenticatedUser loginUser) {
 
-        projectService.transferOwnership(projectId, targetUserPk, email);
+        projectService.transferOwnership(projectId, targetUserPk, loginUser);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -3,15 +3,21 @@ package com.hyupmin.controller.user;
 import com.hyupmin.dto.user.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import com.hyupmin.domain.user.User;
+import com.hyupmin.domain.user.UserSnapshot;
+import com.hyupmin.service.user.PasswordHasher;
 import com.hyupmin.service.user.UserService;
+import com.hyupmin.config.auth.AuthenticatedUser;
 import com.hyupmin.config.jwt.JwtTokenProvider;
+import com.hyupmin.config.jwt.TokenRevocationRegistry;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/users")
@@ -19,8 +25,11 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    // Spring Boot 기본 비동기 실행기 (빈 이름으로 주입): 해시가 끝난 뒤의 DB 작업용
+    private final TaskExecutor applicationTaskExecutor;
 
     /**
      * 이메일 중복 확인
@@ -53,56 +62,87 @@ public class UserController {
 
     /**
      * 회원가입 (비밀번호 암호화 + 검증)
+     * - 암호화는 PasswordHasher 풀에서 처리하고, 요청 스레드는 바로 반환된다.
+     * - 저장(DB)은 해시 풀이 아닌 applicationTaskExecutor에서: 해시 스레드가 커넥션/INSERT를 기다리며 자리를 잡고 있지 않도록
      */
     @PostMapping("/signup")
-    public ResponseEntity<String> signup(@Valid @RequestBody UserSignupRequestDTO request) {
-        try {
-            User savedUser = userService.registerUser(request);
-            return ResponseEntity.ok("회원가입 성공 \nEmail: " + savedUser.getEmail());
-        } catch (IllegalArgumentException e) {
-            // 이메일 중복 등의 예외 처리
-            return ResponseEntity.status(400).body(e.getMessage());
-        } catch (Exception e) {
-            // DB 문제 등 기타 예외 처리
-            return ResponseEntity.status(500).body("회원가입 중 오류가 발생했습니다.");
-        }
+    public CompletableFuture<ResponseEntity<String>> signup(@Valid @RequestBody UserSignupRequestDTO request) {
+        return passwordHasher.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> userService.registerUser(request, encodedPassword),
+                        applicationTaskExecutor)
+                .handle((savedUser, ex) -> {
+                    if (ex == null) {
+                        return ResponseEntity.ok("회원가입 성공 \nEmail: " + savedUser.getEmail());
+                    }
+                    Throwable cause = unwrap(ex);
+                    if (cause instanceof IllegalArgumentException) {
+                        // 이메일 중복 등의 예외 처리
+                        return ResponseEntity.status(400).body(cause.getMessage());
+                    }
+                    if (cause instanceof RejectedExecutionException) {
+                        // 해시 대기열 포화
+                        return ResponseEntity.status(503).body(cause.getMessage());
+                    }
+                    // DB 문제 등 기타 예외 처리
+                    return ResponseEntity.status(500).body("회원가입 중 오류가 발생했습니다.");
+                });
     }
 
     /**
      * 로그인 (JWT 토큰 발급)
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody LoginRequestDTO request) {
+    public CompletableFuture<ResponseEntity<?>> login(@RequestBody LoginRequestDTO request) {
         String email = request.getEmail();
         String password = request.getPassword();
 
-        User user = userService.findByEmail(email);
+        UserSnapshot user = userService.findSnapshotByEmail(email);
 
         // 존재하지 않는 이메일인 경우
         if (user == null) {
-            return ResponseEntity.status(404).body("해당 이메일의 사용자가 존재하지 않습니다.");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(404).body("해당 이메일의 사용자가 존재하지 않습니다."));
         }
 
         // 탈퇴한 계정인지 확인
-        if (user.getIsDeleted()) {
-            return ResponseEntity.status(403).body("탈퇴한 계정입니다. 로그인할 수 없습니다.");
+        if (user.isDeleted()) {
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(403).body("탈퇴한 계정입니다. 로그인할 수 없습니다."));
         }
 
-        // 비밀번호 불일치
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            return ResponseEntity.status(401).body("비밀번호가 일치하지 않습니다.");
-        }
+        // 비밀번호 비교는 PasswordHasher 풀에서 (포화 시 503)
+        return passwordHasher.matches(password, user.getPassword())
+                .<ResponseEntity<?>>thenApply(matched -> {
+                    // 비밀번호 불일치
+                    if (!matched) {
+                        return ResponseEntity.status(401).body("비밀번호가 일치하지 않습니다.");
+                    }
+
+                    // 다른 cost로 저장된 해시면 백그라운드에서 교체
+                    userService.rehashPasswordIfNeeded(user, password);
 
-        String token = jwtTokenProvider.generateToken(user.getEmail());
-        return ResponseEntity.ok(Map.of("token", token));
+                    String token = jwtTokenProvider.generateToken(user);
+                    return ResponseEntity.ok(Map.of("token", token));
+                });
+    }
+
+    /**
+     * 로그아웃 (현재 토큰 무효화)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<String> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (authorization.startsWith("Bearer ")) {
+            tokenRevocationRegistry.revokeToken(authorization.substring(7));
+        }
+        return ResponseEntity.ok("로그아웃되었습니다.");
     }
 
     /**
      * 내 정보 조회
      */
     @GetMapping("/me")
-    public ResponseEntity<UserInfoResponse> getMyInfo(@AuthenticationPrincipal String userEmail) {
-        User user = userService.findByEmail(userEmail);
+    public ResponseEntity<UserInfoResponse> getMyInfo(AuthenticatedUser loginUser) {
+        UserSnapshot user = userService.findSnapshotById(loginUser.getUserPk());
 
         UserInfoResponse response = new UserInfoResponse(
                 user.getName(),
@@ -119,11 +159,11 @@ public class UserController {
      */
     @PatchMapping("/update")
     public ResponseEntity<String> updateUser(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @Valid @RequestBody UserUpdateRequest request) {
 
         try {
-            userService.updateUser(userEmail, request);
+            userService.updateUser(loginUser.getEmail(), request);
             return ResponseEntity.ok("회원 정보가 성공적으로 수정되었습니다.");
         } catch (IllegalArgumentException e) {
             // 존재하지 않는 사용자 등 비즈니스 로직 예외 처리
@@ -138,28 +178,29 @@ public class UserController {
      * 비밀번호 확인 (본인 인증용)
      */
     @PostMapping("/verify-password")
-    public ResponseEntity<?> verifyPassword(
-            @AuthenticationPrincipal String userEmail,
+    public CompletableFuture<ResponseEntity<?>> verifyPassword(
+            AuthenticatedUser loginUser,
             @RequestBody PasswordVerifyRequest request) {
         try {
-            boolean isValid = userService.verifyPassword(userEmail, request.getPassword());
-
-            if (isValid) {
-                return ResponseEntity.ok(Map.of(
-                        "valid", true,
-                        "message", "비밀번호가 확인되었습니다."
-                ));
-            } else {
-                return ResponseEntity.status(401).body(Map.of(
-                        "valid", false,
-                        "message", "비밀번호가 일치하지 않습니다."
-                ));
-            }
+            return userService.verifyPassword(loginUser.getEmail(), request.getPassword())
+                    .<ResponseEntity<?>>thenApply(isValid -> {
+                        if (isValid) {
+                            return ResponseEntity.ok(Map.of(
+                                    "valid", true,
+                                    "message", "비밀번호가 확인되었습니다."
+                            ));
+                        } else {
+                            return ResponseEntity.status(401).body(Map.of(
+                                    "valid", false,
+                                    "message", "비밀번호가 일치하지 않습니다."
+                            ));
+                        }
+                    });
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(Map.of(
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest().body(Map.of(
                     "valid", false,
                     "message", e.getMessage()
-            ));
+            )));
         }
     }
 
@@ -167,14 +208,26 @@ public class UserController {
      * 비밀번호 변경
      */
     @PatchMapping("/update/password")
-    public ResponseEntity<String> updatePassword(
-            @AuthenticationPrincipal String userEmail,
+    public CompletableFuture<ResponseEntity<String>> updatePassword(
+            AuthenticatedUser loginUser,
             @Valid @RequestBody UserPasswordUpdateRequest request) {
         try {
-            userService.updatePassword(userEmail, request);
-            return ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다.");
+            return userService.updatePassword(loginUser.getEmail(), request)
+                    .handle((ignored, ex) -> {
+                        if (ex == null) {
+                            return ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다.");
+                        }
+                        Throwable cause = unwrap(ex);
+                        if (cause instanceof IllegalArgumentException) {
+                            return ResponseEntity.status(401).body(cause.getMessage());
+                        }
+                        if (cause instanceof RejectedExecutionException) {
+                            return ResponseEntity.status(503).body(cause.getMessage());
+                        }
+                        throw new CompletionException(cause);
+                    });
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(401).body(e.getMessage());
+            return CompletableFuture.completedFuture(ResponseEntity.status(401).body(e.getMessage()));
         }
     }
 
@@ -182,9 +235,9 @@ public class UserController {
      * 회원 탈퇴
      */
     @DeleteMapping("/delete")
-    public ResponseEntity<String> deleteUser(@AuthenticationPrincipal String userEmail) {
+    public ResponseEntity<String> deleteUser(AuthenticatedUser loginUser) {
         try {
-            userService.deleteUser(userEmail);
+            userService.deleteUser(loginUser.getEmail());
             return ResponseEntity.ok("회원 탈퇴가 완료되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(e.getMessage());
@@ -192,4 +245,9 @@ public class UserController {
             return ResponseEntity.internalServerError().body("회원 탈퇴 중 오류가 발생했습니다.");
         }
     }
+
+    // CompletableFuture 예외에서 실제 원인 꺼내기
+    private static Throwable unwrap(Throwable ex) {
+        return (ex instanceof CompletionException && ex.getCause() != null) ? ex.getCause() : ex;
+    }
 }
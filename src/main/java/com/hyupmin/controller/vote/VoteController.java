@@ -1,5 +1,6 @@
 package com.hyupmin.controller.vote;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.dto.vote.VoteResponse;
 import com.hyupmin.dto.vote.VoteCreateRequest;
@@ -8,7 +9,6 @@ import com.hyupmin.service.vote.VoteService;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
 
 @RestController
@@ -23,10 +23,10 @@ public class VoteController {
      */
     @PostMapping
     public ResponseEntity<VoteResponse> createVote(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @RequestBody VoteCreateRequest request
     ) {
-        VoteResponse response = voteService.createVote(request, userEmail);
+        VoteResponse response = voteService.createVote(request, loginUser);
 
         return ResponseEntity
                 .status(HttpStatus.CREATED)
@@ -40,10 +40,10 @@ public class VoteController {
      * */
     @PostMapping("/options/{optionId}/cast")
     public ResponseEntity<String> castVote(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long optionId
     ) {
-        voteService.castVote(optionId, userEmail);
+        voteService.castVote(optionId, loginUser);
         return ResponseEntity.ok("투표가 완료되었습니다.");
     }
 
@@ -54,10 +54,10 @@ public class VoteController {
      */
     @PutMapping("/options/{optionId}/cast")
     public ResponseEntity<String> reCastVote(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long optionId
     ) {
-        voteService.reCastVote(optionId, userEmail);
+        voteService.reCastVote(optionId, loginUser);
         return ResponseEntity.ok("재투표가 완료되었습니다.");
     }
 
@@ -67,11 +67,11 @@ public class VoteController {
      */
     @PutMapping("/{voteId}/recast")
     public ResponseEntity<String> reCastVoteAll(
-            @AuthenticationPrincipal String userEmail,
+            AuthenticatedUser loginUser,
             @PathVariable Long voteId,
             @RequestBody VoteRecastRequest request
     ) {
-        voteService.reCastVoteAll(voteId, request.getSelectedOptionIds(), userEmail);
+        voteService.reCastVoteAll(voteId, request.getSelectedOptionIds(), loginUser);
         return ResponseEntity.ok("재투표가 완료되었습니다.");
     }
 
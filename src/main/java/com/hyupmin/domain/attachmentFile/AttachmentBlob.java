@@ -0,0 +1,31 @@
+package com.hyupmin.domain.attachmentFile;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 첨부파일 실제 내용 (SHA-256으로 주소 지정, 같은 내용은 한 번만 저장)
+ * - 여러 AttachmentFile row가 같은 blob을 가리킬 수 있고, refCount로 참조 수를 센다.
+ * - refCount가 0이 된 blob은 바로 지우지 않고, 일정 시간 뒤 AttachmentBlobStore의 정리 작업이 파일과 함께 지운다.
+ */
+@Entity
+@Getter
+@Table(name = "attachment_blobs")
+@NoArgsConstructor
+public class AttachmentBlob {
+
+    @Id
+    @Column(length = 64)
+    private String hash;           // SHA-256 (hex)
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    @Column(nullable = false)
+    private Long refCount;         // 이 blob을 가리키는 첨부파일 수
+
+    private LocalDateTime releasedAt;  // 마지막으로 참조가 줄어든 시각 (정리 대상 판단용)
+}
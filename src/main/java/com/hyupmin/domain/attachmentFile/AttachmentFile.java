@@ -32,6 +32,10 @@ public class AttachmentFile {
     @Column(nullable = false)
     private String filePath;
 
+    // 내용의 SHA-256 (AttachmentBlob PK, 해시 저장 이전에 올라온 파일은 null)
+    @Column(length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private Long fileSize;
 
@@ -72,8 +72,8 @@ public class CalendarEvent {
         if (participants != null) this.participants = participants;
     }
 
-    public boolean isParticipant(String userEmail) {
+    public boolean isParticipant(Long userPk) {
         return participants.stream()
-                .anyMatch(user -> user.getEmail().equals(userEmail));
+                .anyMatch(user -> user.getUserPk().equals(userPk));
     }
 }
\ No newline at end of file
@@ -12,7 +12,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", uniqueConstraints = {
+        // 프로젝트 안에서 게시글 번호는 하나씩만
+        @UniqueConstraint(name = "uk_posts_project_post_number", columnNames = {"project_pk", "post_number"})
+}, indexes = {
+        // 게시판 커서 조회 (공지 먼저, 최신순)
+        @Index(name = "idx_posts_project_notice_pk", columnList = "project_pk, is_notice, post_pk")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -57,6 +63,11 @@ public class Post extends BaseTimeEntity {
     @OneToOne(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     private Vote vote;
 
+    // 조회수 (PostViewCounter가 주기적으로 모아서 반영, 엔티티로는 갱신하지 않음)
+    @Builder.Default
+    @Column(updatable = false)
+    private Long viewCount = 0L;
+
 
     public void update(String title, String content, Boolean isNotice) {
         if (title != null) {
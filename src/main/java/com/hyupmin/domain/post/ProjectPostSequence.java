@@ -0,0 +1,28 @@
+package com.hyupmin.domain.post;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 게시글 번호 시퀀스
+ * - 프로젝트당 row 하나, 마지막으로 발급한 postNumber를 저장
+ * - 발급은 UPDATE(+1)로 처리하므로 같은 프로젝트의 동시 작성은 이 row 잠금으로 직렬화된다.
+ */
+@Entity
+@Getter
+@Table(name = "project_post_sequences")
+@NoArgsConstructor
+public class ProjectPostSequence {
+
+    @Id
+    private Long projectPk;
+
+    @Column(nullable = false)
+    private Long lastPostNumber;
+
+    public ProjectPostSequence(Long projectPk, Long lastPostNumber) {
+        this.projectPk = projectPk;
+        this.lastPostNumber = lastPostNumber;
+    }
+}
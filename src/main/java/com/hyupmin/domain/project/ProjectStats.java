@@ -0,0 +1,44 @@
+package com.hyupmin.domain.project;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 프로젝트별 게시글 통계
+ * - 게시글 작성/삭제/수정과 같은 트랜잭션에서 증감 UPDATE로 유지한다.
+ * - 게시판 전체 개수, 대시보드 통계를 COUNT 쿼리 없이 읽기 위함
+ */
+@Entity
+@Getter
+@Table(name = "project_stats")
+@NoArgsConstructor
+public class ProjectStats {
+
+    @Id
+    private Long projectPk;
+
+    @Column(nullable = false)
+    private Long postCount;      // 전체 게시글 수
+
+    @Column(nullable = false)
+    private Long noticeCount;    // 공지글 수
+
+    @Column(nullable = false)
+    private Long filePostCount;  // 첨부파일이 있는 게시글 수
+
+    @Column(nullable = false)
+    private Long votePostCount;  // 투표가 있는 게시글 수
+
+    public ProjectStats(Long projectPk, Long postCount, Long noticeCount, Long filePostCount, Long votePostCount) {
+        this.projectPk = projectPk;
+        this.postCount = postCount;
+        this.noticeCount = noticeCount;
+        this.filePostCount = filePostCount;
+        this.votePostCount = votePostCount;
+    }
+
+    public static ProjectStats empty(Long projectPk) {
+        return new ProjectStats(projectPk, 0L, 0L, 0L, 0L);
+    }
+}
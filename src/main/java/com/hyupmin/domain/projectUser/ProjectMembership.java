@@ -0,0 +1,32 @@
+package com.hyupmin.domain.projectUser;
+
+import com.hyupmin.domain.projectUser.ProjectUser.ProjectRole;
+import com.hyupmin.domain.projectUser.ProjectUser.ProjectStatus;
+import lombok.Getter;
+
+/**
+ * (프로젝트, 사용자) 참여 정보 스냅샷
+ * - MembershipAuthorizer 캐시 값으로 사용 (ProjectUser 엔티티 대신 상태/역할만 보관)
+ */
+@Getter
+public class ProjectMembership {
+
+    // 참여 정보가 없는 경우 (요청한 적 없음 / 거절 / 추방 / 나가기)
+    public static final ProjectMembership NONE = new ProjectMembership(null, null);
+
+    private final ProjectStatus status;
+    private final ProjectRole role;
+
+    public ProjectMembership(ProjectStatus status, ProjectRole role) {
+        this.status = status;
+        this.role = role;
+    }
+
+    public boolean exists() {
+        return status != null;
+    }
+
+    public boolean isApproved() {
+        return status == ProjectStatus.APPROVED;
+    }
+}
@@ -12,7 +12,9 @@ import com.hyupmin.domain.projectUser.ProjectUser;
 import com.hyupmin.domain.post.Post;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 @Getter
 @Setter
 @AllArgsConstructor
@@ -20,6 +22,8 @@ import com.hyupmin.domain.post.Post;
 @Builder
 public class User {
 
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long userPk;
@@ -0,0 +1,33 @@
+package com.hyupmin.domain.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * User 엔티티의 불변 스냅샷 (UserService 캐시 저장용)
+ * - 영속성 컨텍스트 밖에서 여러 요청이 공유하므로 엔티티 대신 이 객체를 캐시한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserSnapshot {
+
+    private final Long userPk;
+    private final String email;
+    private final String name;
+    private final String phone;
+    private final String field;
+    private final String password;   // BCrypt 해시
+    private final boolean deleted;
+
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getUserPk(),
+                user.getEmail(),
+                user.getName(),
+                user.getPhone(),
+                user.getField(),
+                user.getPassword(),
+                Boolean.TRUE.equals(user.getIsDeleted())
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.hyupmin.dto.post;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 게시판 무한 스크롤 커서
+ * - 마지막으로 내려준 게시글의 (공지 여부, postPk)
+ * - 클라이언트에는 Base64 문자열로만 전달한다. (형식에 의존하지 않도록)
+ */
+@Getter
+@RequiredArgsConstructor
+public class PostCursor {
+
+    private final boolean notice;
+    private final long postPk;
+
+    public String encode() {
+        String raw = (notice ? "N" : "R") + ":" + postPk;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            String type = raw.substring(0, separator);
+            long postPk = Long.parseLong(raw.substring(separator + 1));
+            if (!type.equals("N") && !type.equals("R")) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PostCursor(type.equals("N"), postPk);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -33,6 +33,8 @@ public class PostResponse {
 
     private Long postNumber;
 
+    private Long viewCount;
+
 
     public void setPostNumber(Long postNumber) {
         this.postNumber = postNumber;
@@ -57,6 +59,7 @@ public class PostResponse {
         this.isNotice = post.getIsNotice();
         this.hasVoting = post.getHasVoting();
         this.hasFile = post.getHasFile();
+        this.viewCount = post.getViewCount() == null ? 0L : post.getViewCount();
 
         this.isAuthor = isAuthor != null && isAuthor;
 
@@ -76,6 +79,28 @@ public class PostResponse {
 
     }
 
+    /**
+     * 캐시된 상세 응답에 요청자 정보(투표 여부, 작성자 여부)와 캐시 이후 늘어난 조회수를 덧씌운 사본
+     */
+    public PostResponse(PostResponse cached, boolean hasVoted, boolean isAuthor, long extraViews) {
+        this.postPk = cached.postPk;
+        this.projectPk = cached.projectPk;
+        this.authorName = cached.authorName;
+        this.title = cached.title;
+        this.content = cached.content;
+        this.createdAt = cached.createdAt;
+        this.updatedAt = cached.updatedAt;
+        this.isNotice = cached.isNotice;
+        this.hasVoting = cached.hasVoting;
+        this.hasFile = cached.hasFile;
+        this.attachmentIds = cached.attachmentIds;
+        this.postNumber = cached.postNumber;
+        this.viewCount = cached.viewCount + extraViews;
+
+        this.isAuthor = isAuthor;
+        this.vote = cached.vote == null ? null : new VoteResponse(cached.vote, hasVoted);
+    }
+
     public PostResponse(Post post, Boolean hasVoted, Boolean isAuthor, List<VoteRecord> voteRecords) {
 
         this(post, hasVoted, isAuthor);
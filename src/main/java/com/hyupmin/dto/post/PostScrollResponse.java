@@ -0,0 +1,18 @@
+package com.hyupmin.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시판 커서 기반 조회 응답
+ */
+@Getter
+@AllArgsConstructor
+public class PostScrollResponse {
+
+    private List<PostSummary> posts;
+    private String nextCursor;  // 다음 요청에 그대로 넘기면 됨 (마지막이면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,18 @@
+package com.hyupmin.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시글 검색 색인 생성용 조회 결과 (JPQL 생성자 표현식)
+ */
+@Getter
+@AllArgsConstructor
+public class PostSearchRow {
+
+    private Long postPk;
+    private String title;
+    private String content;
+    private Long authorPk;
+    private String authorName;
+}
@@ -0,0 +1,32 @@
+package com.hyupmin.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시판 목록용 게시글 요약 (JPQL 생성자 표현식)
+ * - 본문, 첨부파일, 투표는 목록에 표시하지 않으므로 조회하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostSummary {
+
+    private Long postPk;
+    private Long projectPk;
+    private Long postNumber;
+    private String title;
+    private String authorName;
+    private Boolean isNotice;
+    private Boolean hasVoting;
+    private Boolean hasFile;
+    private Long viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 아직 DB에 반영 안 된 조회수 더하기
+    public void addPendingViews(long pendingViews) {
+        this.viewCount += pendingViews;
+    }
+}
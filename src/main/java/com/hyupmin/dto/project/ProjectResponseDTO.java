@@ -3,6 +3,7 @@ package com.hyupmin.dto.project;
 import lombok.Builder;
 import lombok.Getter;
 import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.projectUser.ProjectMembership;
 import com.hyupmin.domain.projectUser.ProjectUser;
 import com.hyupmin.domain.user.User;
 import java.util.List;
@@ -36,6 +37,11 @@ public class ProjectResponseDTO {
 
     // 권한 확인.
     public static ProjectResponseDTO from(Project project, ProjectUser currentUserProjectUser) {
+        return from(project, new ProjectMembership(currentUserProjectUser.getStatus(), currentUserProjectUser.getRole()));
+    }
+
+    // 권한 확인 (MembershipAuthorizer 캐시에서 꺼낸 참여 정보 사용)
+    public static ProjectResponseDTO from(Project project, ProjectMembership currentUserMembership) {
         // ProjectUser 목록을 ProjectMemberResponse 목록으로 변환
         List<ProjectMemberResponse> members = project.getProjectUsers().stream()
                 .map(ProjectMemberResponse::from)
@@ -46,8 +52,8 @@ public class ProjectResponseDTO {
                 .projectName(project.getName())
                 .ownerName(project.getOwner().getName())
                 .members(members)
-                .myRole(currentUserProjectUser.getRole().name())
-                .myStatus(currentUserProjectUser.getStatus().name())
+                .myRole(currentUserMembership.getRole().name())
+                .myStatus(currentUserMembership.getStatus().name())
                 .joinCode(project.getJoinCode())
                 .build();
     }
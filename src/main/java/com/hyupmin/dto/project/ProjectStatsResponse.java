@@ -0,0 +1,25 @@
+package com.hyupmin.dto.project;
+
+import com.hyupmin.domain.project.ProjectStats;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProjectStatsResponse {
+    private Long projectPk;
+    private Long postCount;      // 전체 게시글 수
+    private Long noticeCount;    // 공지글 수
+    private Long filePostCount;  // 첨부파일이 있는 게시글 수
+    private Long votePostCount;  // 투표가 있는 게시글 수
+
+    public static ProjectStatsResponse from(ProjectStats stats) {
+        return ProjectStatsResponse.builder()
+                .projectPk(stats.getProjectPk())
+                .postCount(stats.getPostCount())
+                .noticeCount(stats.getNoticeCount())
+                .filePostCount(stats.getFilePostCount())
+                .votePostCount(stats.getVotePostCount())
+                .build();
+    }
+}
@@ -86,6 +86,18 @@ public class VoteResponse {
                 .collect(Collectors.toList());
     }
 
+    // 캐시된 응답의 사본 (로그인 사용자 참여 여부만 바꿈)
+    public VoteResponse(VoteResponse cached, boolean hasVoted) {
+        this.id = cached.id;
+        this.title = cached.title;
+        this.options = cached.options;
+        this.allowMultipleChoices = cached.allowMultipleChoices;
+        this.isAnonymous = cached.isAnonymous;
+        this.hasVoted = hasVoted;
+
+        this.endTime = cached.endTime;
+    }
+
     @Getter
     public static class VoteOptionDto {
         private Long id;
@@ -0,0 +1,159 @@
+package com.hyupmin.file;
+
+import com.hyupmin.domain.attachmentFile.AttachmentFile;
+import com.hyupmin.repository.attachmentFile.AttachmentBlobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 첨부파일 blob 참조 관리 (내용 해시 기준 중복 제거)
+ * - 업로드: 같은 트랜잭션에서 blob 참조 +1, 커밋 후 새 내용만 실제 파일로 옮긴다.
+ * - 첨부파일이 사라지면(게시글/프로젝트 삭제) 참조 -1
+ * - 참조가 0인 채로 일정 시간이 지난 blob은 주기적으로 row와 파일을 함께 지운다.
+ *   (바로 지우지 않는 이유: 같은 내용이 곧 다시 올라오면 그대로 재사용하고, 업로드와 삭제가 겹쳐도 파일을 잃지 않게)
+ */
+@Slf4j
+@Component
+public class AttachmentBlobStore {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attachment_blobs (hash, file_size, ref_count, released_at) VALUES (?, ?, 0, ?)";
+
+    private final AttachmentBlobRepository attachmentBlobRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final FileStore fileStore;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final long releaseGraceMillis;
+
+    public AttachmentBlobStore(AttachmentBlobRepository attachmentBlobRepository,
+                               JdbcTemplate jdbcTemplate,
+                               FileStore fileStore,
+                               ThumbnailGenerator thumbnailGenerator,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${file.blob.release-grace:3600000}") long releaseGraceMillis) {
+        this.attachmentBlobRepository = attachmentBlobRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.fileStore = fileStore;
+        this.thumbnailGenerator = thumbnailGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.releaseGraceMillis = releaseGraceMillis;
+    }
+
+    /**
+     * 스테이징된 파일들의 blob 참조 +1 후, 커밋되면 최종 경로로 옮기고 이미지 썸네일을 만들도록 등록
+     * - 처음 올라온 내용이면 같은 트랜잭션에서 참조 0인 blob row를 만들고(이미 있으면 무시) +1 한다.
+     *   별도 트랜잭션을 쓰지 않으므로 업로드 하나에 커넥션도 하나만 쓰고, 롤백되면 row도 함께 사라진다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void acquire(StagedFiles stagedFiles) {
+        for (AttachmentFile file : stagedFiles.getAttachmentFiles()) {
+            String hash = file.getContentHash();
+            if (!attachmentBlobRepository.existsById(hash)) {
+                insertUnreferenced(hash, file.getFileSize());
+            }
+            if (attachmentBlobRepository.acquire(hash) == 0) {
+                // 확인 직후 정리 작업이 같은 blob을 지운 경우 (드묾)
+                throw new IllegalStateException("첨부파일 저장 중 충돌이 발생했습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        fileStore.promoteAfterCommit(stagedFiles);
+        thumbnailGenerator.generateAfterCommit(stagedFiles);
+    }
+
+    /**
+     * 참조 0인 blob row 생성 (이미 있으면 그대로)
+     * - JPA 쿼리 대신 JDBC INSERT: 중복 키 예외가 JPA를 거치면 업로드 트랜잭션 전체가 rollback-only가 된다.
+     * - 같은 내용이 동시에 처음 올라오면 나중 쪽은 먼저 쪽이 커밋/롤백할 때까지 기다렸다가 무시되거나 새로 만든다.
+     */
+    private void insertUnreferenced(String hash, Long fileSize) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, hash, fileSize, LocalDateTime.now());
+        } catch (DuplicateKeyException e) {
+            // 같은 내용이 동시에 올라와 다른 요청이 먼저 만들었음
+        }
+    }
+
+    /**
+     * 첨부파일 참조 해제 (해시가 없는 예전 첨부파일은 무시)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Collection<String> hashes) {
+        LocalDateTime now = LocalDateTime.now();
+        for (String hash : hashes) {
+            if (hash != null) {
+                attachmentBlobRepository.release(hash, now);
+            }
+        }
+    }
+
+    /**
+     * 참조가 0이 된 지 오래된 blob 정리
+     * - blob 하나마다 짧은 트랜잭션으로 row만 조건부로 지우고, 파일은 커밋된 뒤에 지운다.
+     *   (롤백되면 row가 남으므로, 파일을 먼저 지우면 참조할 수 있는 blob의 파일이 사라진다)
+     */
+    @Scheduled(fixedDelayString = "${file.blob.sweep-interval:3600000}")
+    public void sweepReleased() {
+        LocalDateTime before = LocalDateTime.now().minus(releaseGraceMillis, ChronoUnit.MILLIS);
+        List<String> hashes = attachmentBlobRepository.findReleasedBefore(before, PageRequest.of(0, SWEEP_BATCH_SIZE));
+        for (String hash : hashes) {
+            Boolean deleted = transactionTemplate.execute(
+                    status -> attachmentBlobRepository.deleteIfUnreferenced(hash) > 0); // 0이면 그 사이 다시 참조됨
+            if (Boolean.TRUE.equals(deleted)) {
+                deleteBlobFile(hash);
+            }
+        }
+    }
+
+    /**
+     * row가 지워진 blob의 파일 삭제 (커밋 후)
+     * - 커밋 직후 같은 내용이 다시 올라오면 새 row가 생기고, 업로드는 파일이 이미 있으면 옮기지 않는다. (FileStore.promote)
+     *   그래서 파일을 옆 이름으로 먼저 치운 뒤 row를 다시 확인하고, 새 row가 있으면 되돌려 놓는다.
+     * - 실패해도 참조되지 않는 파일이 남을 뿐이므로 로그만 남긴다.
+     */
+    private void deleteBlobFile(String hash) {
+        Path blob = fileStore.blobPath(hash);
+        Path removing = blob.resolveSibling(blob.getFileName() + ".removing");
+        try {
+            try {
+                Files.move(blob, removing, StandardCopyOption.ATOMIC_MOVE);
+            } catch (NoSuchFileException e) {
+                return; // 파일이 이미 없음
+            }
+            if (attachmentBlobRepository.existsById(hash)) {
+                try {
+                    Files.move(removing, blob);
+                } catch (FileAlreadyExistsException e) {
+                    Files.deleteIfExists(removing); // 새 업로드가 같은 내용의 파일을 이미 옮겨 놓음
+                }
+                return;
+            }
+            Files.deleteIfExists(removing);
+            Files.deleteIfExists(ThumbnailGenerator.thumbnailPathOf(blob)); // 다시 필요하면 요청 시 새로 만들어짐
+        } catch (IOException e) {
+            log.warn("정리 대상 blob 파일을 지울 수 없습니다: {}", blob, e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.hyupmin.file;
+
+import com.hyupmin.repository.attachmentFile.AttachmentFileRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장 디렉터리 바로 아래에 있는 예전 파일을 나눠진 경로(ab/cd/파일명)로 옮기는 백그라운드 작업
+ * - 기동 후 별도 스레드에서 파일명 순으로 batch 단위로 돌고, 끝까지 읽으면 끝난다. (서비스 중단 없음)
+ * - 파일마다: 새 경로에 하드 링크(안 되면 복사) -> 첨부파일 row 경로 변경 커밋 -> 예전 파일 삭제
+ *   경로가 바뀌기 전/후 어느 시점에 다운로드해도 파일이 있다.
+ */
+@Component
+public class FileLayoutMigrator {
+
+    private final AttachmentFileRepository attachmentFileRepository;
+    private final FileStore fileStore;
+    private final TransactionTemplate transactionTemplate;
+    private final String legacyDir;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    private volatile boolean stopped = false;
+
+    public FileLayoutMigrator(AttachmentFileRepository attachmentFileRepository,
+                              FileStore fileStore,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${file.dir}") String fileDir,
+                              @Value("${file.layout-migration.enabled:true}") boolean enabled,
+                              @Value("${file.layout-migration.batch-size:200}") int batchSize,
+                              @Value("${file.layout-migration.pause:200}") long pauseMillis) {
+        this.attachmentFileRepository = attachmentFileRepository;
+        this.fileStore = fileStore;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 예전 filePath는 new File(fileDir/파일명).getAbsolutePath()로 저장되었으므로 같은 방식으로 맞춤
+        this.legacyDir = new File(fileDir).getAbsolutePath() + File.separator;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        Thread worker = new Thread(this::migrateAll, "file-layout-migrator");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    private void migrateAll() {
+        try {
+            String after = "";
+            while (!stopped && (after = migrateBatch(after)) != null) {
+                Thread.sleep(pauseMillis); // 서비스 I/O에 양보
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * after 다음 파일명부터 한 batch 옮기기
+     * - 이번에 읽은 마지막 파일명을 반환하고, 다음 batch는 그 다음부터 읽는다. (더 읽을 것이 없으면 null)
+     * - 옮기지 못한 파일명(짧은 파일명, 링크 실패)은 경로를 그대로 두고 지나간다. (다음 기동 때 다시 시도)
+     *   한 batch를 전부 옮기지 못해도 멈추지 않고 다음 batch로 넘어간다.
+     */
+    String migrateBatch(String after) {
+        List<String> names = attachmentFileRepository.findStoredFileNamesInLegacyDir(
+                legacyDir, after, PageRequest.of(0, batchSize));
+        if (names.isEmpty()) {
+            return null;
+        }
+        String last = names.get(names.size() - 1);
+
+        List<Path> linked = new ArrayList<>();
+        List<String[]> moves = new ArrayList<>();
+        for (String name : names) {
+            Path oldPath = Paths.get(legacyDir + name);
+            Path newPath = Paths.get(fileStore.getFullPath(name));
+            if (newPath.equals(oldPath)) {
+                continue; // 나눌 수 없는 짧은 파일명은 그대로 둠
+            }
+            try {
+                if (link(oldPath, newPath)) {
+                    linked.add(oldPath);
+                }
+            } catch (IOException e) {
+                continue; // 건너뛰고 경로도 그대로 둠 (다음 기동 때 다시 시도)
+            }
+            moves.add(new String[]{legacyDir + name, newPath.toFile().getAbsolutePath()});
+        }
+        if (moves.isEmpty()) {
+            return last;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            for (String[] move : moves) {
+                attachmentFileRepository.updateFilePath(move[0], move[1]);
+            }
+        });
+
+        // 커밋된 뒤에만 예전 파일 삭제 (이미 열려 있는 다운로드는 그대로 끝까지 읽힘)
+        for (Path oldPath : linked) {
+            try {
+                Files.deleteIfExists(oldPath);
+                Files.deleteIfExists(ThumbnailGenerator.thumbnailPathOf(oldPath)); // 새 경로 옆에 다시 만들어짐
+            } catch (IOException ignored) {
+                // 남은 예전 파일은 더 이상 참조되지 않으므로 다운로드에는 영향 없음
+            }
+        }
+        return last;
+    }
+
+    /**
+     * 새 경로에 파일 만들기 (하드 링크, 안 되면 복사)
+     * - 예전 파일이 새 경로에 있으면 나중에 지워야 하므로 true
+     * - 예전 파일이 없으면(이미 옮겨졌거나 유실) row 경로만 바꾸도록 false
+     */
+    private boolean link(Path oldPath, Path newPath) throws IOException {
+        if (!Files.exists(oldPath)) {
+            return false;
+        }
+        if (Files.exists(newPath)) {
+            return true; // 같은 내용의 blob이 이미 새 경로에 있음
+        }
+        Files.createDirectories(newPath.getParent());
+        try {
+            Files.createLink(newPath, oldPath);
+        } catch (IOException | UnsupportedOperationException e) {
+            Files.copy(oldPath, newPath);
+        }
+        return true;
+    }
+}
@@ -1,16 +1,49 @@
 package com.hyupmin.file;
 
+import com.hyupmin.config.cache.TransactionalInvalidation;
 import com.hyupmin.domain.attachmentFile.AttachmentFile;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Component
+@Slf4j
 public class FileStore {
 
     @Value("${file.dir}")           // 예: C:/upload/ or /home/upload/
@@ -20,6 +53,24 @@ public class FileStore {
     @Value("${file.max-size-per-file:10485760}")
     private long maxFileSizePerFile;
 
+    // 여러 파일 동시 저장용 I/O 풀 크기 / 대기열 크기
+    @Value("${file.io.pool-size:8}")
+    private int ioPoolSize;
+
+    @Value("${file.io.queue-capacity:100}")
+    private int ioQueueCapacity;
+
+    private final MeterRegistry meterRegistry;
+    private final Counter promoteFailures;
+    private ThreadPoolExecutor ioExecutor;
+
+    // 스테이징 파일 최대 보관 시간 (이보다 오래된 파일은 정리)
+    @Value("${file.staging.max-age:3600000}")
+    private long stagingMaxAgeMillis;
+
+    // 업로드를 먼저 써두는 하위 디렉터리 (저장 디렉터리 아래)
+    private static final String STAGING_DIR_NAME = ".staging";
+
     // 허용 확장자 목록
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
             "jpg", "jpeg", "png",
@@ -30,10 +81,101 @@ public class FileStore {
             "zip", "txt"
     );
 
+    // 확장자 -> Content-Type (다운로드마다 파일 내용을 열어 추측하지 않도록 저장된 fileType으로 결정)
+    private static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("png", "image/png"),
+            Map.entry("pdf", "application/pdf"),
+            Map.entry("hwp", "application/x-hwp"),
+            Map.entry("hwpx", "application/hwp+zip"),
+            Map.entry("ppt", "application/vnd.ms-powerpoint"),
+            Map.entry("pptx", "application/vnd.openxmlformats-officedocument.presentationml.presentation"),
+            Map.entry("doc", "application/msword"),
+            Map.entry("docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document"),
+            Map.entry("xls", "application/vnd.ms-excel"),
+            Map.entry("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+            Map.entry("zip", "application/zip"),
+            Map.entry("txt", "text/plain")
+    );
+
+    /**
+     * 저장된 확장자(AttachmentFile.fileType)로 Content-Type 결정
+     */
+    public static String contentTypeOf(String fileType) {
+        if (fileType == null) {
+            return "application/octet-stream";
+        }
+        return CONTENT_TYPES.getOrDefault(fileType.toLowerCase(), "application/octet-stream");
+    }
+
+    /**
+     * 파일의 [start, start + length) 구간을 응답으로 내보내는 body
+     * - 요청한 구간만 FileChannel.transferTo로 잘라 보낸다. (파일 전체를 메모리에 올리지 않음)
+     * - 대상이 서블릿 OutputStream을 감싼 채널이라 커널 zero-copy(sendfile)는 아니고, JDK가 작은 힙 버퍼로 나눠 복사한다.
+     */
+    public static StreamingResponseBody streamRange(Path path, long start, long length) {
+        return out -> {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                WritableByteChannel target = Channels.newChannel(out);
+                long position = start;
+                long remaining = length;
+                while (remaining > 0) {
+                    long written = channel.transferTo(position, remaining, target);
+                    if (written <= 0) {
+                        break;
+                    }
+                    position += written;
+                    remaining -= written;
+                }
+            }
+        };
+    }
+
+    public FileStore(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.promoteFailures = Counter.builder("file.promote.failures")
+                .description("커밋 후 저장 경로로 옮기지 못한 첨부파일 수")
+                .register(meterRegistry);
+    }
+
     /**
-     * 실제 저장 경로 + 파일명 (ex. C:/upload/uuid.png)
+     * 업로드 파일 쓰기 전용 풀
+     * - 디스크 쓰기만 하므로 CPU 수와 무관하게 고정 크기, 대기열이 가득 차면 요청 스레드가 직접 쓴다. (자연스러운 속도 조절)
+     */
+    @PostConstruct
+    void initIoExecutor() {
+        this.ioExecutor = new ThreadPoolExecutor(
+                ioPoolSize, ioPoolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(ioQueueCapacity),
+                new CustomizableThreadFactory("file-io-"),
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        new ExecutorServiceMetrics(ioExecutor, "file.io", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ioExecutor.shutdown();
+    }
+
+    /**
+     * 실제 저장 경로 + 파일명 (ex. /var/app/uploads/ab/cd/abcd1234...)
+     * - 파일명 앞 4글자로 2단계 하위 디렉터리를 나눠, 디렉터리 하나에 파일이 몰리지 않게 한다.
+     * - 하위 디렉터리는 처음 저장할 때 만든다. (promote)
      */
     public String getFullPath(String filename) {
+        if (filename.length() < 4) {
+            return getLegacyFullPath(filename);
+        }
+        return Paths.get(fileDir, filename.substring(0, 2), filename.substring(2, 4), filename).toString();
+    }
+
+    /**
+     * 예전(나누기 전) 저장 경로: 저장 디렉터리 바로 아래 (FileLayoutMigrator에서 사용)
+     */
+    public String getLegacyFullPath(String filename) {
         if (!fileDir.endsWith(File.separator)) {
             return fileDir + File.separator + filename;
         }
@@ -41,32 +183,141 @@ public class FileStore {
     }
 
     /**
-     * 여러 파일 저장 (비어있는 파일은 무시)
+     * 여러 파일을 스테이징 영역에 저장 (비어있는 파일은 무시)
+     * - DB 트랜잭션 밖에서 호출한다. (업로드 디스크 쓰기 동안 커넥션을 잡지 않도록)
+     * - 모든 파일의 확장자/용량을 먼저 검사하고, 통과해야 쓰기 시작한다.
+     * - 파일이 여러 개면 I/O 풀에서 동시에 쓴다. (요청 시간 = 가장 느린 파일 하나의 쓰기 시간)
+     * - 하나라도 실패하면 이미 써둔 파일도 모두 지운다.
      */
-    public List<AttachmentFile> storeFiles(List<MultipartFile> multipartFiles) throws IOException {
-        List<AttachmentFile> storeFileResult = new ArrayList<>();
+    public StagedFiles stageFiles(List<MultipartFile> multipartFiles) throws IOException {
+        StagedFiles staged = new StagedFiles();
 
         if (multipartFiles == null) {
-            return storeFileResult;
+            return staged;
         }
 
+        // 1. 검증 먼저 (하나라도 안 되면 아무것도 쓰지 않음)
+        List<Upload> uploads = new ArrayList<>();
         for (MultipartFile multipartFile : multipartFiles) {
-            if (!multipartFile.isEmpty()) {
-                AttachmentFile attachmentFile = storeFile(multipartFile);
-                storeFileResult.add(attachmentFile);
+            if (multipartFile != null && !multipartFile.isEmpty()) {
+                uploads.add(validate(multipartFile));
+            }
+        }
+        if (uploads.isEmpty()) {
+            return staged;
+        }
+
+        // 2. 디렉터리 없으면 생성 (스테이징은 저장 디렉터리 아래에 두어 같은 파일시스템 안에서 옮겨지게 함)
+        Path stagingDir = stagingDir();
+        Files.createDirectories(stagingDir);
+
+        // 3. 파일이 하나면 요청 스레드에서 바로 저장
+        if (uploads.size() == 1) {
+            StagedFiles.Entry entry = copyToStaging(uploads.get(0), stagingDir);
+            staged.add(entry.attachmentFile(), entry.stagedPath());
+            return staged;
+        }
+
+        // 4. 여러 개면 동시에 저장 (풀이 가득 차면 요청 스레드에서 직접 실행)
+        List<CompletableFuture<StagedFiles.Entry>> futures = new ArrayList<>(uploads.size());
+        for (Upload upload : uploads) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return copyToStaging(upload, stagingDir);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, ioExecutor));
+        }
+
+        // 5. 전부 끝날 때까지 기다린 뒤, 하나라도 실패했으면 성공한 파일까지 모두 지움
+        Throwable failure = null;
+        for (CompletableFuture<StagedFiles.Entry> future : futures) {
+            try {
+                StagedFiles.Entry entry = future.join();
+                staged.add(entry.attachmentFile(), entry.stagedPath());
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() instanceof UncheckedIOException
+                        ? e.getCause().getCause()
+                        : e.getCause();
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            staged.close();
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(failure);
+        }
+        return staged;
+    }
+
+    /**
+     * 커밋 후 스테이징 파일을 최종 경로로 옮김 (트랜잭션 안에서 호출)
+     * - 같은 내용의 blob이 이미 있으면 옮기지 않는다. (스테이징 파일은 StagedFiles.close()에서 지워짐)
+     * - 롤백되면 옮기지 않으므로, 남은 파일은 StagedFiles.close()에서 지워진다.
+     */
+    public void promoteAfterCommit(StagedFiles staged) {
+        if (staged.isEmpty()) {
+            return;
+        }
+        TransactionalInvalidation.afterCommit(() -> promote(staged));
+    }
+
+    // 커밋 후 실행되므로 예외를 던지지 않는다. (이미 커밋된 요청을 실패로 돌리거나 다른 커밋 후 작업을 막지 않도록)
+    // 하나가 실패해도 나머지는 계속 옮기고, 실패는 로그 + file.promote.failures 메트릭으로 남긴다.
+    private void promote(StagedFiles staged) {
+        for (StagedFiles.Entry entry : staged.entries()) {
+            Path target = Paths.get(entry.attachmentFile().getFilePath());
+            if (Files.exists(target)) {
+                continue; // 중복 업로드
+            }
+            try {
+                Files.createDirectories(target.getParent());
+                try {
+                    Files.move(entry.stagedPath(), target, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(entry.stagedPath(), target);
+                }
+            } catch (IOException e) {
+                promoteFailures.increment();
+                log.error("첨부파일을 저장 경로로 옮길 수 없습니다: {}", target, e);
             }
         }
-        return storeFileResult;
     }
 
     /**
-     * 단일 파일 저장
+     * 오래된 스테이징 파일 정리
+     * - 정상 흐름에서는 요청이 끝날 때 지워지므로, 프로세스가 중간에 죽은 경우에만 남는다.
      */
-    public AttachmentFile storeFile(MultipartFile multipartFile) throws IOException {
-        if (multipartFile == null || multipartFile.isEmpty()) {
-            return null;
+    @Scheduled(fixedDelayString = "${file.staging.sweep-interval:3600000}")
+    public void sweepStaging() throws IOException {
+        Path stagingDir = stagingDir();
+        if (!Files.isDirectory(stagingDir)) {
+            return;
+        }
+        Instant threshold = Instant.now().minusMillis(stagingMaxAgeMillis);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(threshold)) {
+                    Files.deleteIfExists(file);
+                }
+            }
         }
+    }
 
+    /**
+     * 단일 파일 검증 (확장자, 용량)
+     */
+    private Upload validate(MultipartFile multipartFile) {
         // 1. 기본 정보 추출
         String originalFilename = multipartFile.getOriginalFilename();
         if (originalFilename == null) {
@@ -80,32 +331,62 @@ public class FileStore {
         validateExtension(ext, originalFilename);
         validateFileSize(size, originalFilename);
 
-        // 3. 저장용 파일명 생성 (UUID)
-        String storeFileName = createStoreFileName(ext);
+        return new Upload(multipartFile, originalFilename, ext, size);
+    }
 
-        // 4. 디렉터리 없으면 생성
-        File dir = new File(fileDir);
-        if (!dir.exists()) {
-            boolean created = dir.mkdirs();
-            if (!created) {
-                throw new IOException("파일 저장 디렉터리를 생성할 수 없습니다: " + fileDir);
-            }
+    /**
+     * 단일 파일을 스테이징 영역에 저장 (실패하면 쓰던 파일은 지움)
+     */
+    private StagedFiles.Entry copyToStaging(Upload upload, Path stagingDir) throws IOException {
+        // 1. 스테이징 경로에 저장하면서 SHA-256 계산 (최종 경로로는 커밋 후에 옮김)
+        Path stagedPath = stagingDir.resolve(createStoreFileName(upload.ext()));
+        MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(upload.file().getInputStream(), digest)) {
+            Files.copy(in, stagedPath);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(stagedPath);
+            throw e;
         }
+        String hash = HexFormat.of().formatHex(digest.digest());
 
-        // 5. 실제 파일 저장
-        File saveTarget = new File(getFullPath(storeFileName));
-        multipartFile.transferTo(saveTarget);
+        // 2. 저장 파일명 = 내용 해시 (같은 내용은 같은 파일 하나만 둠)
+        File saveTarget = blobPath(hash).toFile();
 
-        // 6. 엔티티 생성 (엔티티 필드명에 맞추기)
-        return AttachmentFile.builder()
-                .originalFileName(originalFilename)        // 원본 파일명
-                .storedFileName(storeFileName)             // 서버에 저장된 파일명 (UUID.xxx)
-                .filePath(saveTarget.getAbsolutePath())    // or fileDir만 저장해도 됨
-                .fileSize(size)                            // 바이트 단위 크기
-                .fileType(ext)                             // 확장자 (jpg, pdf 등)
-                .isDeleted(false)                          // 기본값: 삭제 안 됨
-                .createdAt(LocalDateTime.now())            // 업로드 시각
+        // 3. 엔티티 생성 (filePath는 최종 경로 기준)
+        AttachmentFile attachmentFile = AttachmentFile.builder()
+                .originalFileName(upload.originalFilename())  // 원본 파일명
+                .storedFileName(hash)                         // 서버에 저장된 파일명 (내용 SHA-256)
+                .filePath(saveTarget.getAbsolutePath())       // or fileDir만 저장해도 됨
+                .contentHash(hash)
+                .fileSize(upload.size())                      // 바이트 단위 크기
+                .fileType(upload.ext())                       // 확장자 (jpg, pdf 등)
+                .isDeleted(false)                             // 기본값: 삭제 안 됨
+                .createdAt(LocalDateTime.now())               // 업로드 시각
                 .build();
+        return new StagedFiles.Entry(attachmentFile, stagedPath);
+    }
+
+    // 검증을 통과한 업로드 파일
+    private record Upload(MultipartFile file, String originalFilename, String ext, long size) {
+    }
+
+    /**
+     * 내용 해시로 정해지는 blob 저장 경로
+     */
+    public Path blobPath(String hash) {
+        return Paths.get(getFullPath(hash));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Path stagingDir() {
+        return Paths.get(getLegacyFullPath(STAGING_DIR_NAME));
     }
 
     /**
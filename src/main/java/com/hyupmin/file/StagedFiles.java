@@ -0,0 +1,57 @@
+package com.hyupmin.file;
+
+import com.hyupmin.domain.attachmentFile.AttachmentFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스테이징 영역에 먼저 써둔 업로드 파일 묶음
+ * - AttachmentFile 엔티티는 최종 경로(filePath) 기준으로 만들어져 있고, 실제 파일은 아직 스테이징 경로에 있다.
+ * - 커밋 후 FileStore.promote()로 최종 경로로 옮긴다.
+ * - close() 시점까지 옮겨지지 않은 파일(트랜잭션 실패 등)은 삭제한다. → try-with-resources로 사용
+ */
+public class StagedFiles implements AutoCloseable {
+
+    private final List<Entry> entries = new ArrayList<>();
+
+    void add(AttachmentFile attachmentFile, Path stagedPath) {
+        entries.add(new Entry(attachmentFile, stagedPath));
+    }
+
+    List<Entry> entries() {
+        return entries;
+    }
+
+    public List<AttachmentFile> getAttachmentFiles() {
+        List<AttachmentFile> files = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            files.add(entry.attachmentFile());
+        }
+        return files;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * 아직 스테이징에 남아 있는 파일 삭제 (이미 옮겨진 파일은 그대로)
+     */
+    @Override
+    public void close() {
+        for (Entry entry : entries) {
+            try {
+                Files.deleteIfExists(entry.stagedPath());
+            } catch (IOException ignored) {
+                // 남은 파일은 FileStore의 주기적 정리에서 지워진다.
+            }
+        }
+    }
+
+    record Entry(AttachmentFile attachmentFile, Path stagedPath) {
+    }
+}
@@ -0,0 +1,258 @@
+package com.hyupmin.file;
+
+import com.hyupmin.config.cache.TransactionalInvalidation;
+import com.hyupmin.domain.attachmentFile.AttachmentFile;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 첨부파일 썸네일 생성기
+ * - 업로드가 커밋되면 전용 풀에서 미리 만들어 두고, 없으면 처음 요청될 때 만든다.
+ * - 썸네일은 원본 옆에 "원본파일명.thumb.png"로 저장한다. (원본 파일명이 내용 해시라 한 번 만들면 바뀌지 않음)
+ * - 같은 썸네일을 동시에 여러 번 만들지 않도록 진행 중인 작업을 공유한다.
+ * - 대기열이 가득 차면 미리 만들기는 건너뛰고(요청 시 생성), 요청 시 생성은 RejectedExecutionException (GlobalExceptionHandler에서 503)
+ */
+@Component
+public class ThumbnailGenerator {
+
+    private static final Set<String> IMAGE_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+    private static final String THUMBNAIL_SUFFIX = ".thumb.png";
+
+    private final FileStore fileStore;
+    private final int size;
+    private final long maxPixels;
+    private final ThreadPoolExecutor executor;
+
+    // 썸네일 경로 -> 진행 중인 생성 작업
+    private final ConcurrentHashMap<Path, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    public ThumbnailGenerator(FileStore fileStore,
+                              MeterRegistry meterRegistry,
+                              @Value("${file.thumbnail.size:320}") int size,
+                              @Value("${file.thumbnail.max-pixels:40000000}") long maxPixels,
+                              @Value("${file.thumbnail.pool-size:2}") int poolSize,
+                              @Value("${file.thumbnail.queue-capacity:200}") int queueCapacity) {
+        this.fileStore = fileStore;
+        this.size = size;
+        this.maxPixels = maxPixels;
+
+        // 이미지 디코딩은 CPU/메모리를 많이 쓰므로 작은 고정 크기 풀에서만 돌린다.
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("thumbnail-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        new ExecutorServiceMetrics(executor, "file.thumbnail", Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * 썸네일을 만들 수 있는 파일 형식인지 (jpg, jpeg, png)
+     */
+    public static boolean supports(String fileType) {
+        return fileType != null && IMAGE_EXTENSIONS.contains(fileType.toLowerCase());
+    }
+
+    /**
+     * 원본 옆 썸네일 경로 (ex. /var/app/uploads/ab/cd/abcd1234....thumb.png)
+     */
+    public static Path thumbnailPathOf(Path original) {
+        return original.resolveSibling(original.getFileName() + THUMBNAIL_SUFFIX);
+    }
+
+    /**
+     * 커밋 후(원본이 최종 경로로 옮겨진 뒤) 이미지 첨부파일의 썸네일을 미리 만들도록 등록 (트랜잭션 안에서 호출)
+     * - FileStore.promoteAfterCommit() 다음에 호출해야 원본이 옮겨진 뒤에 실행된다.
+     */
+    public void generateAfterCommit(StagedFiles staged) {
+        if (staged.isEmpty()) {
+            return;
+        }
+        TransactionalInvalidation.afterCommit(() -> {
+            for (AttachmentFile file : staged.getAttachmentFiles()) {
+                if (!supports(file.getFileType())) {
+                    continue;
+                }
+                try {
+                    submit(Paths.get(file.getFilePath()));
+                } catch (RejectedExecutionException ignored) {
+                    // 바쁘면 미리 만들지 않음 (처음 요청될 때 만든다)
+                }
+            }
+        });
+    }
+
+    /**
+     * 썸네일 경로 반환 (없으면 지금 만들고, 만들 수 없는 이미지면 empty)
+     */
+    public Optional<Path> getOrCreate(Path original) {
+        Path thumbnail = thumbnailPathOf(original);
+        if (Files.exists(thumbnail)) {
+            return Optional.of(thumbnail);
+        }
+
+        boolean created;
+        try {
+            created = submit(original).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+        return created ? Optional.of(thumbnail) : Optional.empty();
+    }
+
+    /**
+     * 생성 작업 등록 (같은 썸네일을 만드는 중이면 그 작업을 그대로 반환)
+     */
+    private CompletableFuture<Boolean> submit(Path original) {
+        Path thumbnail = thumbnailPathOf(original);
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(thumbnail, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    created.complete(generate(original, thumbnail));
+                } catch (Throwable e) {
+                    created.completeExceptionally(e);
+                } finally {
+                    inFlight.remove(thumbnail, created);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(thumbnail, created);
+            throw new RejectedExecutionException("요청이 많아 썸네일을 만들 수 없습니다. 잠시 후 다시 시도해주세요.", e);
+        }
+        return created;
+    }
+
+    /**
+     * 썸네일 생성 (긴 변이 size 이하가 되도록 비율 유지 축소, 작은 이미지는 확대하지 않음)
+     * - 원본이 없거나, 읽을 수 없거나, 너무 큰(max-pixels 초과) 이미지는 false
+     * - 스테이징 영역에 쓴 뒤 옮겨, 요청 쪽에서 쓰다 만 파일을 읽지 않게 한다.
+     */
+    private boolean generate(Path original, Path thumbnail) {
+        if (Files.exists(thumbnail)) {
+            return true;
+        }
+        if (!Files.isReadable(original)) {
+            return false;
+        }
+
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                return false;
+            }
+
+            // 1. 축소
+            double scale = Math.min(1.0, (double) size / Math.max(source.getWidth(), source.getHeight()));
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+            BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D graphics = resized.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(source, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+
+            // 2. 스테이징에 쓰고 원본 옆으로 옮김
+            Path stagingDir = fileStore.stagingDir();
+            Files.createDirectories(stagingDir);
+            Path temp = stagingDir.resolve(UUID.randomUUID() + THUMBNAIL_SUFFIX);
+            try {
+                ImageIO.write(resized, "png", temp.toFile());
+                try {
+                    Files.move(temp, thumbnail, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, thumbnail, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException("썸네일을 만들 수 없습니다: " + original, e);
+        }
+    }
+
+    /**
+     * 원본 이미지 읽기
+     * - 크기를 먼저 확인해 너무 큰 이미지는 디코딩하지 않는다.
+     * - 썸네일보다 훨씬 큰 이미지는 픽셀을 건너뛰며 읽어 메모리와 시간을 줄인다. (축소 결과는 거의 같음)
+     */
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null; // 확장자만 이미지이고 실제로는 이미지가 아님
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    return null;
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, Math.max(width, height) / (size * 2));
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,42 @@
+package com.hyupmin.repository.attachmentFile;
+
+import com.hyupmin.domain.attachmentFile.AttachmentBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface AttachmentBlobRepository extends JpaRepository<AttachmentBlob, String> {
+
+    /**
+     * 참조 +1 (blob row가 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount + 1 WHERE b.hash = :hash")
+    int acquire(@Param("hash") String hash);
+
+    /**
+     * 참조 -1 (0 아래로는 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE AttachmentBlob b SET b.refCount = b.refCount - 1, b.releasedAt = :now " +
+            "WHERE b.hash = :hash AND b.refCount > 0")
+    int release(@Param("hash") String hash, @Param("now") LocalDateTime now);
+
+    /**
+     * 참조가 0이 된 지 오래된 blob (정리 대상)
+     */
+    @Query("SELECT b.hash FROM AttachmentBlob b WHERE b.refCount = 0 AND b.releasedAt < :before")
+    List<String> findReleasedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * 참조가 여전히 0일 때만 삭제 (그 사이 다시 참조되었으면 0 반환)
+     */
+    @Modifying
+    @Query("DELETE FROM AttachmentBlob b WHERE b.hash = :hash AND b.refCount = 0")
+    int deleteIfUnreferenced(@Param("hash") String hash);
+}
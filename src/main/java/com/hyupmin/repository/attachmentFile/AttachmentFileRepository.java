@@ -1,7 +1,9 @@
 package com.hyupmin.repository.attachmentFile;
 
 import com.hyupmin.domain.attachmentFile.AttachmentFile;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +30,30 @@ public interface AttachmentFileRepository extends JpaRepository<AttachmentFile,
             "FROM AttachmentFile a " +
             "WHERE a.post.postPk = :postPk AND a.isDeleted = false")
     long sumFileSizeByPostPk(@Param("postPk") Long postPk);
+
+    /**
+     * 프로젝트 전체 첨부파일의 내용 해시 (프로젝트 삭제 시 blob 참조 해제용)
+     */
+    @Query("SELECT a.contentHash FROM AttachmentFile a " +
+            "WHERE a.post.project.projectPk = :projectPk " +
+            "AND a.contentHash IS NOT NULL AND a.isDeleted = false")
+    List<String> findContentHashesByProjectPk(@Param("projectPk") Long projectPk);
+
+    /**
+     * 예전 저장 경로(저장 디렉터리 바로 아래)에 남아 있는 저장 파일명 (디렉터리 나누기 마이그레이션용)
+     * - 파일명 순으로 after 다음부터 읽는다. (옮기지 못하고 남은 파일명을 건너뛰며 끝까지 진행하도록)
+     */
+    @Query("SELECT DISTINCT a.storedFileName FROM AttachmentFile a " +
+            "WHERE a.filePath = CONCAT(:legacyDir, a.storedFileName) AND a.storedFileName > :after " +
+            "ORDER BY a.storedFileName")
+    List<String> findStoredFileNamesInLegacyDir(@Param("legacyDir") String legacyDir,
+                                                @Param("after") String after,
+                                                Pageable pageable);
+
+    /**
+     * 파일 경로 일괄 변경 (같은 파일을 가리키는 첨부파일 전부)
+     */
+    @Modifying
+    @Query("UPDATE AttachmentFile a SET a.filePath = :newPath WHERE a.filePath = :oldPath")
+    int updateFilePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
 }
\ No newline at end of file
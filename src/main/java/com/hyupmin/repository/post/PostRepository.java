@@ -2,9 +2,11 @@ package com.hyupmin.repository.post;
 
 import com.hyupmin.domain.post.Post;
 import com.hyupmin.domain.project.Project;
-import org.springframework.data.domain.Page;
+import com.hyupmin.dto.post.PostSearchRow;
+import com.hyupmin.dto.post.PostSummary;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -15,15 +17,36 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * 특정 프로젝트의 게시글 목록을 페이징하여 조회합니다.
-     * - 작성자(User) 정보를 함께 조회하기 위해 JOIN FETCH 사용
+     * - 목록 표시에 필요한 컬럼만 PostSummary로 조회 (본문/첨부/투표 제외, 추가 지연 로딩 없음)
      * - 공지글(isNotice = true)을 먼저, 이후 postNumber 내림차순 정렬
+     * - 전체 개수는 project_stats에서 읽으므로 COUNT 쿼리는 없음
      */
-    @Query(value = "SELECT p FROM Post p " +
-            "JOIN FETCH p.user " +
-            "WHERE p.project = :project " +
-            "ORDER BY p.isNotice DESC, p.postNumber DESC",
-            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.project = :project")
-    Page<Post> findByProjectWithUser(@Param("project") Project project, Pageable pageable);
+    @Query("SELECT new com.hyupmin.dto.post.PostSummary(" +
+            "p.postPk, p.project.projectPk, p.postNumber, p.title, u.name, " +
+            "p.isNotice, p.hasVoting, p.hasFile, COALESCE(p.viewCount, 0L), p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.project.projectPk = :projectPk " +
+            "ORDER BY p.isNotice DESC, p.postNumber DESC")
+    List<PostSummary> findSummariesByProject(@Param("projectPk") Long projectPk, Pageable pageable);
+
+    /**
+     * 커서 기반 목록 조회 (공지글 또는 일반글 중 한쪽만)
+     * - postPk < :beforePostPk 조건으로 이어서 조회하므로, 뒤 페이지도 OFFSET 없이 인덱스(project, isNotice, postPk)를 바로 탄다.
+     * - 게시글 번호는 작성 순서대로 발급되므로 postPk 내림차순 = postNumber 내림차순
+     * - 개수 제한은 Pageable(size)로, COUNT 쿼리는 없음
+     */
+    @Query("SELECT new com.hyupmin.dto.post.PostSummary(" +
+            "p.postPk, p.project.projectPk, p.postNumber, p.title, u.name, " +
+            "p.isNotice, p.hasVoting, p.hasFile, COALESCE(p.viewCount, 0L), p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.project.projectPk = :projectPk " +
+            "AND p.isNotice = :notice " +
+            "AND p.postPk < :beforePostPk " +
+            "ORDER BY p.postPk DESC")
+    List<PostSummary> findSummarySliceByProject(@Param("projectPk") Long projectPk,
+                                                @Param("notice") boolean notice,
+                                                @Param("beforePostPk") Long beforePostPk,
+                                                Pageable pageable);
 
     /**
      * 특정 게시글 상세 조회 (작성자, 프로젝트 함께 조회)
@@ -34,6 +57,19 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             "WHERE p.postPk = :postId")
     Optional<Post> findPostWithUserAndProjectById(@Param("postId") Long postId);
 
+    /**
+     * 게시글 상세 화면용 조회 (작성자, 투표, 투표 항목까지 한 번에)
+     * - Post.vote는 mappedBy 쪽 OneToOne이라 지연 로딩이 안 되므로, 여기서 fetch join으로 같이 읽는다.
+     * - 컬렉션 fetch join은 voteOptions 하나만 (첨부파일은 지연 로딩 쿼리 한 번으로 따로)
+     * - 프로젝트는 PK만 필요하므로 조인하지 않음
+     */
+    @Query("SELECT p FROM Post p " +
+            "JOIN FETCH p.user " +
+            "LEFT JOIN FETCH p.vote v " +
+            "LEFT JOIN FETCH v.voteOptions " +
+            "WHERE p.postPk = :postId")
+    Optional<Post> findPostDetailById(@Param("postId") Long postId);
+
     /**
      * 공지사항 목록 조회
      * - 공지글만 필터링
@@ -48,58 +84,47 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     /**
      * 프로젝트별 현재 가장 큰 postNumber 조회 (없으면 0)
+     * - 게시글 번호 시퀀스 초기값 계산용
      */
     @Query("SELECT COALESCE(MAX(p.postNumber), 0) FROM Post p WHERE p.project = :project")
     Long findMaxPostNumberByProject(@Param("project") Project project);
 
     /**
-     * 특정 게시글이 삭제되었을 때, 그 뒤 번호(postNumber > X)를 가진 게시글들 조회
-     * - 삭제된 번호 뒤에 있는 글들의 번호를 -1 하기 위해 사용
+     * 특정 게시글이 삭제되었을 때, 그 뒤 번호(postNumber > X)를 가진 게시글들의 번호를 -1 (1단계)
+     * - (project, postNumber) unique 제약은 row 단위로 검사되므로, 바로 -1 하면 처리 순서에 따라 잠깐 번호가 겹칠 수 있다.
+     * - 그래서 먼저 -(postNumber - 1)로 음수 영역에 옮긴 뒤, 2단계에서 부호만 되돌린다.
+     * - 실행 전 flush로 삭제를 먼저 반영
      */
-    List<Post> findByProjectAndPostNumberGreaterThanOrderByPostNumberAsc(Project project, Long postNumber);
-
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.postNumber = -(p.postNumber - 1) " +
+            "WHERE p.project = :project AND p.postNumber > :postNumber")
+    int shiftPostNumbersAfter(@Param("project") Project project, @Param("postNumber") Long postNumber);
 
-    // 1) 제목으로 검색 (postNumber 기준 정렬)
-    @Query(value = "SELECT p FROM Post p " +
-            "JOIN FETCH p.user u " +
-            "WHERE p.project = :project " +
-            "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "ORDER BY p.postNumber DESC",
-            countQuery = "SELECT COUNT(p) FROM Post p " +
-                    "WHERE p.project = :project " +
-                    "AND LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Post> searchByProjectAndTitle(@Param("project") Project project,
-                                       @Param("keyword") String keyword,
-                                       Pageable pageable);
+    /**
+     * 번호 당기기 2단계: 음수로 옮겨둔 번호의 부호를 되돌림
+     * - 실행 후 영속성 컨텍스트 clear (메모리에 남은 옛 번호 제거)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Post p SET p.postNumber = -p.postNumber " +
+            "WHERE p.project = :project AND p.postNumber < 0")
+    int restoreShiftedPostNumbers(@Param("project") Project project);
 
-    // 2) 작성자 이름으로 검색 (postNumber 기준 정렬)
-    @Query(value = "SELECT p FROM Post p " +
-            "JOIN FETCH p.user u " +
-            "WHERE p.project = :project " +
-            "AND LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "ORDER BY p.postNumber DESC",
-            countQuery = "SELECT COUNT(p) FROM Post p " +
-                    "JOIN p.user u " +
-                    "WHERE p.project = :project " +
-                    "AND LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Post> searchByProjectAndAuthor(@Param("project") Project project,
-                                        @Param("keyword") String keyword,
-                                        Pageable pageable);
 
-    // 3) 제목 OR 작성자 통합 검색 (postNumber 기준 정렬)
-    @Query(value = "SELECT p FROM Post p " +
-            "JOIN FETCH p.user u " +
-            "WHERE p.project = :project " +
-            "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "     OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-            "ORDER BY p.postNumber DESC",
-            countQuery = "SELECT COUNT(p) FROM Post p " +
-                    "JOIN p.user u " +
-                    "WHERE p.project = :project " +
-                    "AND (LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-                    "     OR LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%'))) ")
-    Page<Post> searchByProjectAndTitleOrAuthor(@Param("project") Project project,
-                                               @Param("keyword") String keyword,
-                                               Pageable pageable);
+    /**
+     * 검색 색인 생성용: 프로젝트의 게시글 제목/본문/작성자만 조회
+     */
+    @Query("SELECT new com.hyupmin.dto.post.PostSearchRow(p.postPk, p.title, p.content, u.userPk, u.name) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.project.projectPk = :projectPk")
+    List<PostSearchRow> findSearchRowsByProjectPk(@Param("projectPk") Long projectPk);
 
-}
\ No newline at end of file
+    /**
+     * 검색 결과 한 페이지 조회 (요약만, 순서는 호출 쪽에서 맞춤)
+     */
+    @Query("SELECT new com.hyupmin.dto.post.PostSummary(" +
+            "p.postPk, p.project.projectPk, p.postNumber, p.title, u.name, " +
+            "p.isNotice, p.hasVoting, p.hasFile, COALESCE(p.viewCount, 0L), p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u " +
+            "WHERE p.postPk IN :postPks")
+    List<PostSummary> findSummariesByPostPkIn(@Param("postPks") List<Long> postPks);
+}
@@ -0,0 +1,42 @@
+package com.hyupmin.repository.post;
+
+import com.hyupmin.domain.post.ProjectPostSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ProjectPostSequenceRepository extends JpaRepository<ProjectPostSequence, Long> {
+
+    /**
+     * 마지막 번호 +1 (row 잠금은 트랜잭션 종료까지 유지)
+     * - 시퀀스 row가 없으면 0 반환
+     */
+    @Modifying
+    @Query("UPDATE ProjectPostSequence s SET s.lastPostNumber = s.lastPostNumber + 1 " +
+            "WHERE s.projectPk = :projectPk")
+    int increment(@Param("projectPk") Long projectPk);
+
+    /**
+     * 마지막 번호 -1 (게시글 삭제 후 번호를 당길 때)
+     */
+    @Modifying
+    @Query("UPDATE ProjectPostSequence s SET s.lastPostNumber = s.lastPostNumber - 1 " +
+            "WHERE s.projectPk = :projectPk AND s.lastPostNumber > 0")
+    int decrement(@Param("projectPk") Long projectPk);
+
+    /**
+     * 현재 마지막 번호 조회 (같은 트랜잭션의 increment 결과를 읽음)
+     */
+    @Query("SELECT s.lastPostNumber FROM ProjectPostSequence s WHERE s.projectPk = :projectPk")
+    Long findLastPostNumber(@Param("projectPk") Long projectPk);
+
+    /**
+     * 시퀀스 row가 아직 없는 프로젝트 PK 목록 (기존 데이터 초기화용)
+     */
+    @Query("SELECT pr.projectPk FROM Project pr " +
+            "WHERE NOT EXISTS (SELECT s FROM ProjectPostSequence s WHERE s.projectPk = pr.projectPk)")
+    List<Long> findProjectPksWithoutSequence();
+}
@@ -0,0 +1,47 @@
+package com.hyupmin.repository.project;
+
+import com.hyupmin.domain.project.ProjectStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProjectStatsRepository extends JpaRepository<ProjectStats, Long> {
+
+    /**
+     * 통계 증감 (통계 row가 없으면 0 반환)
+     */
+    @Modifying
+    @Query("UPDATE ProjectStats s SET " +
+            "s.postCount = s.postCount + :posts, " +
+            "s.noticeCount = s.noticeCount + :notices, " +
+            "s.filePostCount = s.filePostCount + :filePosts, " +
+            "s.votePostCount = s.votePostCount + :votePosts " +
+            "WHERE s.projectPk = :projectPk")
+    int applyDelta(@Param("projectPk") Long projectPk,
+                   @Param("posts") long posts,
+                   @Param("notices") long notices,
+                   @Param("filePosts") long filePosts,
+                   @Param("votePosts") long votePosts);
+
+    /**
+     * 게시글 테이블에서 통계 직접 집계 (통계 row 초기화용, 게시글이 없으면 empty)
+     */
+    @Query("SELECT new com.hyupmin.domain.project.ProjectStats(p.project.projectPk, COUNT(p), " +
+            "SUM(CASE WHEN p.isNotice = true THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN p.hasFile = true THEN 1L ELSE 0L END), " +
+            "SUM(CASE WHEN p.hasVoting = true THEN 1L ELSE 0L END)) " +
+            "FROM Post p WHERE p.project.projectPk = :projectPk " +
+            "GROUP BY p.project.projectPk")
+    Optional<ProjectStats> aggregateFromPosts(@Param("projectPk") Long projectPk);
+
+    /**
+     * 통계 row가 아직 없는 프로젝트 PK 목록 (기존 데이터 초기화용)
+     */
+    @Query("SELECT pr.projectPk FROM Project pr " +
+            "WHERE NOT EXISTS (SELECT s FROM ProjectStats s WHERE s.projectPk = pr.projectPk)")
+    List<Long> findProjectPksWithoutStats();
+}
@@ -1,10 +1,13 @@
 package com.hyupmin.repository.project;
 
 import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.projectUser.ProjectMembership;
 import com.hyupmin.domain.projectUser.ProjectUser;
 import com.hyupmin.domain.projectUser.ProjectUser.ProjectStatus; // Enum 임포트
 import com.hyupmin.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +15,12 @@ public interface ProjectUserRepository extends JpaRepository<ProjectUser, Long>
     // 특정 프로젝트에 특정 사용자가 이미 멤버로 있는지 확인.
     Optional<ProjectUser> findByProjectAndUser(Project project, User user);
 
+    // 참여 상태/역할만 조회 <- MembershipAuthorizer 캐시 적재용 (Project, User 엔티티 로딩 없음)
+    @Query("SELECT new com.hyupmin.domain.projectUser.ProjectMembership(pu.status, pu.role) " +
+            "FROM ProjectUser pu " +
+            "WHERE pu.project.projectPk = :projectPk AND pu.user.userPk = :userPk")
+    Optional<ProjectMembership> findMembership(@Param("projectPk") Long projectPk, @Param("userPk") Long userPk);
+
     // 특정 프로젝트에 특정 사용자가 멤버로 있는지 확인.
     boolean existsByProjectAndUser(Project project, User user);
 
@@ -2,7 +2,12 @@ package com.hyupmin.repository.user;
 
 import com.hyupmin.domain.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +15,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // 아이디 중복체크용
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    // 이메일 Bloom filter 초기화용 (이메일 컬럼만 조회)
+    @Query("SELECT u.email FROM User u")
+    List<String> findAllEmails();
+
+    /**
+     * 비밀번호 해시 교체 (조건부)
+     * - 해시 계산은 트랜잭션 밖에서 끝내고, 저장만 짧은 UPDATE 한 번으로 처리한다.
+     * - 해시 계산 도중 다른 요청이 비밀번호를 바꿨다면 0 반환
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newPassword " +
+            "WHERE u.userPk = :userPk AND u.password = :currentPassword")
+    int updatePasswordIfUnchanged(@Param("userPk") Long userPk,
+                                  @Param("currentPassword") String currentPassword,
+                                  @Param("newPassword") String newPassword);
+}
@@ -5,6 +5,8 @@ import com.hyupmin.domain.vote.Vote;
 import com.hyupmin.domain.vote.VoteOption;
 import com.hyupmin.domain.vote.VoteRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -19,5 +21,11 @@ public interface VoteRecordRepository extends JpaRepository<VoteRecord, Long> {
 
     List<VoteRecord> findByUserAndVoteOption(User user, VoteOption voteOption);
 
-    List<VoteRecord> findByVoteOption_Vote(Vote vote);
+    /**
+     * 실명 투표의 투표자 목록 (투표자 User를 함께 조회해서 기록마다 users 조회가 나가지 않게)
+     */
+    @Query("SELECT vr FROM VoteRecord vr " +
+            "JOIN FETCH vr.user " +
+            "WHERE vr.voteOption.vote = :vote")
+    List<VoteRecord> findWithUserByVote(@Param("vote") Vote vote);
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.hyupmin.service.calendar;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.domain.calendar.CalendarEvent;
 import com.hyupmin.domain.project.Project;
@@ -11,6 +12,7 @@ import com.hyupmin.dto.calendar.CalendarEventResponse;
 import com.hyupmin.repository.calendar.CalendarEventRepository;
 import com.hyupmin.repository.project.ProjectUserRepository;
 import com.hyupmin.repository.user.UserRepository; // ✅ UserRepository 주입
+import com.hyupmin.service.project.MembershipAuthorizer;
 import com.hyupmin.service.project.ProjectService;
 import com.hyupmin.service.user.UserService;
 import org.springframework.security.access.AccessDeniedException;
@@ -32,6 +34,7 @@ public class CalendarEventService {
     private final UserService userService;
     private final ProjectUserRepository projectUserRepository;
     private final UserRepository userRepository;
+    private final MembershipAuthorizer membershipAuthorizer;
 
     // 일정 엔티티 조회 편의 메서드
     private CalendarEvent findEventById(Long eventId) {
@@ -41,8 +44,8 @@ public class CalendarEventService {
 
     // 전체 프로젝트 일정 조회
     @Transactional (readOnly = true)
-    public List<CalendarEventResponse> getAllMyEvents(String userEmail) {
-        User user = userService.findByEmail(userEmail);
+    public List<CalendarEventResponse> getAllMyEvents(AuthenticatedUser loginUser) {
+        User user = userService.getReference(loginUser.getUserPk());
 
         List<ProjectUser> approvedProjectsUsers = projectUserRepository.findByUserAndStatus(user, ProjectStatus.APPROVED);
 
@@ -58,14 +61,10 @@ public class CalendarEventService {
                 .collect(Collectors.toList());
     }
 
-    // 프로젝트 참여 권한 확인
-    private void checkProjectMembership(Project project, User user) {
-        ProjectUser projectUser = projectUserRepository.findByProjectAndUser(project, user)
-                .orElseThrow(() -> new AccessDeniedException("프로젝트에 참여 중이 아닙니다."));
-
-        if (projectUser.getStatus() != ProjectStatus.APPROVED) {
-            throw new AccessDeniedException("프로젝트 참여 승인을 기다려야 합니다.");
-        }
+    // 등록자 또는 참가자인지 확인 <- createUser는 PK만 비교하므로 users 조회 없음
+    private boolean canModify(CalendarEvent event, AuthenticatedUser loginUser) {
+        return event.getCreateUser().getUserPk().equals(loginUser.getUserPk())
+                || event.isParticipant(loginUser.getUserPk());
     }
 
     // 참가자 PK 리스트로 User Set 조회
@@ -79,12 +78,12 @@ public class CalendarEventService {
 
     //  일정 등록 (수정됨)
     @Transactional
-    public CalendarEventResponse createEvent(Long projectId, CalendarEventCreateRequest request, String userEmail) {
-        Project project = projectService.findProjectById(projectId);
-        User user = userService.findByEmail(userEmail);
-
+    public CalendarEventResponse createEvent(Long projectId, CalendarEventCreateRequest request, AuthenticatedUser loginUser) {
         // 프로젝트 멤버만 일정 등록 가능
-        checkProjectMembership(project, user);
+        membershipAuthorizer.requireApproved(projectId, loginUser.getUserPk());
+
+        Project project = projectService.findProjectById(projectId);
+        User user = userService.getReference(loginUser.getUserPk());
 
         // 참가자 조회
         Set<User> participants = findParticipantsByPks(request.getParticipantUserPks());
@@ -106,12 +105,9 @@ public class CalendarEventService {
 
     // 특정 프로젝트의 일정 조회
     @Transactional(readOnly = true)
-    public List<CalendarEventResponse> getEventsByProject(Long projectId, String userEmail) {
-        Project project = projectService.findProjectById(projectId);
-        User user = userService.findByEmail(userEmail);
-
+    public List<CalendarEventResponse> getEventsByProject(Long projectId, AuthenticatedUser loginUser) {
         // 프로젝트 멤버만 일정 조회 가능
-        checkProjectMembership(project, user);
+        membershipAuthorizer.requireApproved(projectId, loginUser.getUserPk());
 
         List<CalendarEvent> events = calendarEventRepository.findByProject_ProjectPk(projectId);
 
@@ -122,12 +118,9 @@ public class CalendarEventService {
 
     // 7일 이내 마감 일정 조회 (신규)
     @Transactional(readOnly = true)
-    public List<CalendarEventResponse> getUpcomingEvents(Long projectId, String userEmail) {
-        Project project = projectService.findProjectById(projectId);
-        User user = userService.findByEmail(userEmail);
-
+    public List<CalendarEventResponse> getUpcomingEvents(Long projectId, AuthenticatedUser loginUser) {
         // 프로젝트 멤버만 조회 가능
-        checkProjectMembership(project, user);
+        membershipAuthorizer.requireApproved(projectId, loginUser.getUserPk());
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime sevenDaysLater = now.plusDays(7);
@@ -142,24 +135,22 @@ public class CalendarEventService {
 
     // 단일 일정 상세 조회
     @Transactional(readOnly = true)
-    public CalendarEventResponse getEvent(Long eventId, String userEmail) {
+    public CalendarEventResponse getEvent(Long eventId, AuthenticatedUser loginUser) {
         CalendarEvent event = findEventById(eventId);
-        User user = userService.findByEmail(userEmail);
 
-        // 해당 일정이 속한 프로젝트의 멤버만 상세 조회 가능
-        checkProjectMembership(event.getProject(), user);
+        // 해당 일정이 속한 프로젝트의 멤버만 상세 조회 가능 (project 프록시의 PK만 사용)
+        membershipAuthorizer.requireApproved(event.getProject().getProjectPk(), loginUser.getUserPk());
 
         return CalendarEventResponse.from(event);
     }
 
     // 일정 수정
     @Transactional
-    public CalendarEventResponse updateEvent(Long eventId, CalendarEventCreateRequest request, String userEmail) {
+    public CalendarEventResponse updateEvent(Long eventId, CalendarEventCreateRequest request, AuthenticatedUser loginUser) {
         CalendarEvent event = findEventById(eventId);
-        User user = userService.findByEmail(userEmail); // 권한 확인용
 
         // 등록자 또는 참가자만 수정 가능
-        if (!event.getCreateUser().getEmail().equals(userEmail) && !event.isParticipant(userEmail)) {
+        if (!canModify(event, loginUser)) {
             throw new AccessDeniedException("일정을 등록한 사용자 또는 참가자만 수정할 수 있습니다.");
         }
 
@@ -180,12 +171,11 @@ public class CalendarEventService {
 
     // 일정 삭제
     @Transactional
-    public void deleteEvent(Long eventId, String userEmail) {
+    public void deleteEvent(Long eventId, AuthenticatedUser loginUser) {
         CalendarEvent event = findEventById(eventId);
-        User user = userService.findByEmail(userEmail); // 권한 확인용
 
         // 등록자 또는 참가자만 삭제 가능
-        if (!event.getCreateUser().getEmail().equals(userEmail) && !event.isParticipant(userEmail)) {
+        if (!canModify(event, loginUser)) {
             throw new AccessDeniedException("일정을 등록한 사용자 또는 참가자만 삭제할 수 있습니다.");
         }
 
@@ -0,0 +1,159 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.config.cache.ExpiringCache;
+import com.hyupmin.config.cache.TransactionalInvalidation;
+import com.hyupmin.dto.post.PostResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 캐시 (사용자와 무관한 부분만)
+ * - key는 (postPk, 게시글 버전, 전체 세대)이다. 게시글/투표/첨부파일이 바뀌면 버전을 올리므로 옛 엔트리는 더 이상 조회되지 않는다.
+ * - 버전을 먼저 읽고 DB에서 읽어오므로, 변경 커밋 전에 읽은 값은 옛 버전 key로만 저장된다.
+ * - hasVoted / isAuthor는 캐시에 넣지 않고 요청마다 덧씌운다. (PostService.getPostById)
+ * - 조회수는 캐시할 때의 DB 값에, 그 이후 DB에 반영된 조회수(flushedViews)를 엔트리마다 따로 더해 간다.
+ *   조회수 반영(PostViewCounter.flush)은 캐시를 비우지 않으므로 자주 조회되는 게시글도 계속 캐시에서 응답한다.
+ * - 잠금은 쓰지 않는다. 조회수 반영과 겹친 캐시 미스 로딩은 결과를 캐시에 남기지 않는다. (DB 값에 반영분이 들어 있는지 알 수 없으므로)
+ * - 작성자/투표자 이름 변경처럼 여러 게시글이 한꺼번에 바뀌는 경우는 세대를 올려 전체를 버린다.
+ * - 버전 맵은 마지막 변경이 TTL보다 오래된 게시글부터 정리한다. (그 이전 버전으로 저장된 엔트리는 이미 만료되었으므로
+ *   버전 0 key로 돌아가도 옛 값이 조회되지 않음)
+ */
+@Component
+public class PostDetailCache {
+
+    private final ExpiringCache<DetailKey, Detail> details;
+
+    // postPk -> 버전 (최근 TTL 안에 바뀐 게시글만 보관, 세대가 바뀌면 비움)
+    private final ConcurrentHashMap<Long, Version> versions = new ConcurrentHashMap<>();
+    // 버전 번호 발급 (모든 게시글 공통, 정리 후 다시 바뀌어도 예전 번호가 재사용되지 않음)
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+    private final long ttlMillis;
+
+    // 조회수 반영 시작/끝마다 +1 (홀수면 반영 중, 로딩 도중 반영이 있었는지 확인용)
+    private final AtomicLong viewFlushes = new AtomicLong();
+
+    public PostDetailCache(MeterRegistry meterRegistry,
+                           @Value("${post.detail-cache.max-size:5000}") int maxSize,
+                           @Value("${post.detail-cache.ttl:600000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+        this.details = new ExpiringCache<DetailKey, Detail>(maxSize, ttlMillis)
+                .bindTo(meterRegistry, "posts.detail");
+    }
+
+    /**
+     * Read-through 조회 (loader는 사용자 정보 없이 만든 PostResponse를 담아 돌려줘야 한다)
+     * - 로딩이 조회수 반영과 겹치면 읽은 값은 돌려주되 캐시에는 남기지 않는다.
+     */
+    public Detail get(Long postPk, Supplier<Detail> loader) {
+        DetailKey key = currentKey(postPk);
+        Detail cached = details.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long flushStamp = viewFlushes.get();
+        long invalidationStamp = details.invalidationStamp();
+        Detail loaded = loader.get();
+        if (loaded != null && flushStamp % 2 == 0) {
+            details.putIfNotInvalidated(key, loaded, invalidationStamp);
+            // 저장 직후 다시 확인: 그 사이 반영이 시작되었으면 반영분이 빠지거나 두 번 더해질 수 있으므로 지움
+            if (viewFlushes.get() != flushStamp) {
+                details.remove(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 캐시된 조회수에 더할 값 = 캐시 이후 DB에 반영된 조회수 + 아직 반영 안 된 조회수
+     * - 반영 직후 짧은 순간에는 반영분만큼 적게 보일 수 있다. (pending을 먼저 빼고 flushedViews에 더하므로)
+     */
+    public long viewsSinceLoad(Detail detail, LongSupplier pendingViews) {
+        return detail.flushedViews().get() + pendingViews.getAsLong();
+    }
+
+    /**
+     * 조회수 DB 반영 (PostViewCounter.flush)
+     * - write(DB 반영 + pending 차감)는 잠금 없이 실행하고, 성공하면 캐시된 엔트리의 flushedViews에 반영한 만큼 더한다.
+     * - write가 실패하면 예외를 그대로 던지고 캐시는 건드리지 않는다.
+     * - 시작/끝에 카운터를 올려, 그 사이 시작한 캐시 미스 로딩이 결과를 캐시에 남기지 않게 한다.
+     */
+    public void applyFlushedViews(Map<Long, Long> deltas, Runnable write) {
+        viewFlushes.incrementAndGet();
+        try {
+            write.run();
+            deltas.forEach((postPk, delta) -> {
+                Detail cached = details.peek(currentKey(postPk));
+                if (cached != null) {
+                    cached.flushedViews().addAndGet(delta);
+                }
+            });
+        } finally {
+            viewFlushes.incrementAndGet();
+        }
+    }
+
+    /**
+     * 게시글 하나가 바뀜 (수정, 삭제, 공지 등록/해제, 투표, 첨부파일 변경)
+     */
+    public void invalidate(Long postPk) {
+        TransactionalInvalidation.run(() -> {
+            long gen = generation.get();
+            Version old = versions.put(postPk, new Version(versionSequence.incrementAndGet(), System.currentTimeMillis()));
+            details.invalidate(new DetailKey(postPk, old == null ? 0 : old.value(), gen));
+        });
+    }
+
+    /**
+     * 여러 게시글이 한꺼번에 바뀜 (사용자 이름 변경)
+     */
+    public void invalidateAll() {
+        TransactionalInvalidation.run(() -> {
+            generation.incrementAndGet();
+            versions.clear();
+            details.invalidateAll();
+        });
+    }
+
+    /**
+     * 마지막 변경이 TTL보다 오래된 게시글의 버전 정리 + 만료된 엔트리 정리
+     */
+    @Scheduled(fixedDelayString = "${post.detail-cache.ttl:600000}")
+    public void purgeExpired() {
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        versions.values().removeIf(version -> version.changedAtMillis() < threshold);
+        details.purgeExpired();
+    }
+
+    private DetailKey currentKey(Long postPk) {
+        long gen = generation.get();
+        Version version = versions.get(postPk);
+        return new DetailKey(postPk, version == null ? 0 : version.value(), gen);
+    }
+
+    /**
+     * 캐시 엔트리: 사용자와 무관한 응답 + 요청마다 덧씌울 때 필요한 값
+     * - flushedViews: 캐시한 뒤 DB에 반영된 조회수 (response의 조회수는 캐시할 때의 DB 값)
+     */
+    public record Detail(PostResponse response, Long authorPk, Long voteId, AtomicLong flushedViews) {
+
+        public Detail(PostResponse response, Long authorPk, Long voteId) {
+            this(response, authorPk, voteId, new AtomicLong());
+        }
+    }
+
+    private record Version(long value, long changedAtMillis) {
+    }
+
+    private record DetailKey(Long postPk, long version, long generation) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.repository.post.PostRepository;
+import com.hyupmin.repository.post.ProjectPostSequenceRepository;
+import com.hyupmin.repository.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 프로젝트별 게시글 번호 발급기
+ * - MAX(postNumber) + 1 대신 project_post_sequences row를 원자적으로 +1 해서 번호를 발급한다.
+ * - row 잠금이 호출한 트랜잭션 끝까지 유지되므로 같은 프로젝트에서 동시에 글을 써도 번호가 겹치지 않는다.
+ * - 삭제 시 번호를 당기는 정책(연속 번호)이 있어서 블록 단위 선발급은 하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostNumberAllocator {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_post_sequences (project_pk, last_post_number) VALUES (?, ?)";
+
+    private final ProjectPostSequenceRepository sequenceRepository;
+    private final PostRepository postRepository;
+    private final ProjectRepository projectRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 다음 게시글 번호 발급 (게시글 저장과 같은 트랜잭션에서 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long next(Long projectPk) {
+        if (sequenceRepository.increment(projectPk) == 0) {
+            // 시퀀스 row가 없는 프로젝트 (기동 시 초기화 이전 데이터 등): 만들고(이미 있으면 그대로) 다시 +1
+            initialize(projectPk);
+            if (sequenceRepository.increment(projectPk) == 0) {
+                throw new IllegalStateException("게시글 번호를 발급할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+        return sequenceRepository.findLastPostNumber(projectPk);
+    }
+
+    /**
+     * 게시글 삭제 전에 호출: 시퀀스 row를 먼저 잠가서 같은 프로젝트의 작성과 순서를 맞춘다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Long projectPk) {
+        sequenceRepository.decrement(projectPk);
+    }
+
+    /**
+     * 시퀀스 row 생성 (기존 게시글이 있으면 최대 번호부터, 이미 있으면 그대로 둠)
+     * - 프로젝트 생성 시, 또는 row가 없는 프로젝트에 첫 글 두 개가 동시에 올 때 양쪽에서 호출될 수 있다.
+     *   나중 쪽의 INSERT는 중복 키로 무시되고, 먼저 만든 row를 +1 하면서 순서대로 기다린다.
+     * - JPA save 대신 JDBC INSERT: 중복 키 예외가 리포지토리 프록시를 거치면 호출한 트랜잭션 전체가 rollback-only가 된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initialize(Long projectPk) {
+        Long maxPostNumber = postRepository.findMaxPostNumberByProject(projectRepository.getReferenceById(projectPk));
+        try {
+            jdbcTemplate.update(INSERT_SQL, projectPk, maxPostNumber);
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 먼저 만들었음
+        }
+    }
+
+    /**
+     * 프로젝트 삭제 시 시퀀스 row 제거
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long projectPk) {
+        sequenceRepository.deleteById(projectPk);
+    }
+
+    /**
+     * 기동 시 시퀀스 row가 없는 기존 프로젝트 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMissing() {
+        for (Long projectPk : sequenceRepository.findProjectPksWithoutSequence()) {
+            initialize(projectPk);
+        }
+    }
+}
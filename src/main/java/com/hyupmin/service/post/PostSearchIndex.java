@@ -0,0 +1,335 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.dto.post.PostSearchRow;
+import com.hyupmin.dto.post.PostSearchType;
+import com.hyupmin.repository.post.PostRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트별 게시글 검색 색인 (인메모리 역색인)
+ * - 제목/본문은 글자 단위 1-gram, 2-gram으로 색인한다. (띄어쓰기 없는 한글도 부분 일치 검색 가능)
+ * - 검색어의 2-gram 목록을 교집합으로 후보를 좁힌 뒤, 원문 포함 여부로 한 번 더 확인하므로 결과는 LIKE '%kw%'와 같다.
+ * - 작성자 이름은 사용자 단위로 한 번만 보관하고, 프로젝트별로 작성자 -> 게시글 목록을 둔다.
+ * - 프로젝트 색인은 처음 검색될 때 DB에서 만들고, 이후에는 게시글 작성/수정/삭제 커밋 후에 갱신한다.
+ * - 검색(색인 만들기)은 트랜잭션 밖에서 호출해야 한다. (호출한 트랜잭션의 예전 스냅샷으로 만들면 그 사이 커밋된 글이 빠짐)
+ */
+@Component
+public class PostSearchIndex {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate buildTransaction;
+    private final int maxProjects;
+
+    private final ConcurrentHashMap<Long, ProjectIndex> projects = new ConcurrentHashMap<>();
+    // userPk -> 소문자 이름 (모든 프로젝트가 공유)
+    private final ConcurrentHashMap<Long, String> authorNames = new ConcurrentHashMap<>();
+
+    public PostSearchIndex(PostRepository postRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${post.search-index.max-projects:1000}") int maxProjects) {
+        this.postRepository = postRepository;
+        // 색인 조회 전용 트랜잭션: 잠금을 잡은 뒤에 시작하므로 그 시점까지 커밋된 글이 모두 보인다.
+        this.buildTransaction = new TransactionTemplate(transactionManager);
+        this.buildTransaction.setReadOnly(true);
+        this.buildTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.maxProjects = maxProjects;
+        Gauge.builder("post.search-index.projects", projects, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검색 (postPk 내림차순 = 최신 글 먼저)
+     * - 게시글 번호는 작성 순서대로 발급되므로 postPk 순서와 postNumber 순서는 같다.
+     */
+    public List<Long> search(Long projectPk, String keyword, PostSearchType searchType) {
+        String query = normalize(keyword);
+        ProjectIndex index = getOrBuild(projectPk);
+
+        index.lock.readLock().lock();
+        try {
+            Set<Long> result = new HashSet<>();
+            switch (searchType) {
+                case TITLE:
+                    index.collectText(query, true, result);
+                    break;
+                case AUTHOR:
+                    collectAuthor(index, query, result);
+                    break;
+                case ALL:
+                default:
+                    index.collectText(query, true, result);
+                    index.collectText(query, false, result);
+                    collectAuthor(index, query, result);
+                    break;
+            }
+            List<Long> sorted = new ArrayList<>(result);
+            sorted.sort(Comparator.reverseOrder());
+            return sorted;
+        } finally {
+            index.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글 추가 (작성 커밋 후 호출)
+     * - authorName은 작성 트랜잭션에서 DB로 읽은 이름 (보관 중인 이름보다 최신이므로 덮어씀)
+     */
+    public void add(Long projectPk, Long postPk, String title, String content, Long authorPk, String authorName) {
+        authorNames.put(authorPk, normalize(authorName));
+        apply(projectPk, index -> index.put(postPk, title, content, authorPk));
+    }
+
+    /**
+     * 게시글 제목/본문 변경 (수정 커밋 후 호출)
+     */
+    public void update(Long projectPk, Long postPk, String title, String content) {
+        apply(projectPk, index -> {
+            Doc existing = index.docs.get(postPk);
+            if (existing != null) {
+                index.put(postPk, title, content, existing.authorPk);
+            }
+        });
+    }
+
+    /**
+     * 게시글 제거 (삭제 커밋 후 호출)
+     */
+    public void remove(Long projectPk, Long postPk) {
+        apply(projectPk, index -> index.remove(postPk));
+    }
+
+    /**
+     * 사용자 이름 변경 반영
+     */
+    public void renameAuthor(Long userPk, String name) {
+        authorNames.computeIfPresent(userPk, (pk, old) -> normalize(name));
+    }
+
+    /**
+     * 프로젝트 색인 통째로 제거 (프로젝트 삭제 시)
+     */
+    public void dropProject(Long projectPk) {
+        projects.remove(projectPk);
+    }
+
+    private void collectAuthor(ProjectIndex index, String query, Set<Long> result) {
+        for (Map.Entry<Long, Set<Long>> entry : index.postsByAuthor.entrySet()) {
+            String name = authorNames.get(entry.getKey());
+            if (name != null && name.contains(query)) {
+                result.addAll(entry.getValue());
+            }
+        }
+    }
+
+    // 색인이 이미 만들어진 프로젝트에만 반영 (없으면 다음 검색 때 DB에서 새로 만든다)
+    private void apply(Long projectPk, Consumer<ProjectIndex> change) {
+        ProjectIndex index = projects.get(projectPk);
+        if (index == null) {
+            return;
+        }
+        index.lock.writeLock().lock();
+        try {
+            // 아직 만들기 전이면 건너뜀: 이 변경은 이미 커밋되었고, build()는 이 잠금을 잡은 뒤에
+            // 새 트랜잭션으로 조회하므로 그 결과에 포함된다.
+            if (index.ready) {
+                change.accept(index);
+            }
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private ProjectIndex getOrBuild(Long projectPk) {
+        ProjectIndex index = projects.get(projectPk);
+        if (index == null) {
+            evictIfFull();
+            index = projects.computeIfAbsent(projectPk, pk -> new ProjectIndex());
+        }
+        if (!index.ready) {
+            build(projectPk, index);
+        }
+        return index;
+    }
+
+    /**
+     * DB에서 프로젝트 색인 만들기
+     * - 색인을 맵에 먼저 등록하고 쓰기 잠금을 잡은 채로, 새 트랜잭션(READ COMMITTED)을 시작해서 조회한다.
+     *   조회 전에 커밋된 변경은 조회 결과에, 이후에 커밋된 변경은 잠금이 풀린 뒤 apply()로 반영되므로 빠지지 않는다.
+     * - 호출한 쪽 트랜잭션에 합류하면 그 트랜잭션의 스냅샷(MySQL REPEATABLE READ)으로 읽게 되어
+     *   스냅샷 이후 ~ 잠금 이전에 커밋된 글이 조회에도 apply()에도 반영되지 않으므로 막는다.
+     */
+    private void build(Long projectPk, ProjectIndex index) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("게시글 검색 색인은 트랜잭션 밖에서 만들어야 합니다.");
+        }
+        index.lock.writeLock().lock();
+        try {
+            if (index.ready) {
+                return;
+            }
+            index.clear();
+            List<PostSearchRow> rows = buildTransaction.execute(
+                    status -> postRepository.findSearchRowsByProjectPk(projectPk));
+            for (PostSearchRow row : rows) {
+                authorNames.put(row.getAuthorPk(), normalize(row.getAuthorName()));
+                index.put(row.getPostPk(), row.getTitle(), row.getContent(), row.getAuthorPk());
+            }
+            index.ready = true;
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private void evictIfFull() {
+        if (projects.size() < maxProjects) {
+            return;
+        }
+        Iterator<Long> it = projects.keySet().iterator();
+        if (it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < text.length(); i++) {
+            grams.add(text.substring(i, i + 1));
+            if (i + 1 < text.length()) {
+                grams.add(text.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static final class Doc {
+        private final String title;    // 소문자
+        private final String content;  // 소문자
+        private final Long authorPk;
+
+        private Doc(String title, String content, Long authorPk) {
+            this.title = title;
+            this.content = content;
+            this.authorPk = authorPk;
+        }
+    }
+
+    private static final class ProjectIndex {
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Doc> docs = new HashMap<>();
+        private final Map<String, Set<Long>> titleGrams = new HashMap<>();
+        private final Map<String, Set<Long>> contentGrams = new HashMap<>();
+        private final Map<Long, Set<Long>> postsByAuthor = new HashMap<>();
+
+        // DB에서 처음 만들기가 끝났는지 여부
+        private volatile boolean ready = false;
+
+        private void put(Long postPk, String title, String content, Long authorPk) {
+            remove(postPk);
+            Doc doc = new Doc(normalize(title), normalize(content), authorPk);
+            docs.put(postPk, doc);
+            for (String gram : grams(doc.title)) {
+                titleGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(postPk);
+            }
+            for (String gram : grams(doc.content)) {
+                contentGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(postPk);
+            }
+            postsByAuthor.computeIfAbsent(authorPk, a -> new HashSet<>()).add(postPk);
+        }
+
+        private void remove(Long postPk) {
+            Doc doc = docs.remove(postPk);
+            if (doc == null) {
+                return;
+            }
+            unlink(titleGrams, grams(doc.title), postPk);
+            unlink(contentGrams, grams(doc.content), postPk);
+            Set<Long> authored = postsByAuthor.get(doc.authorPk);
+            if (authored != null) {
+                authored.remove(postPk);
+                if (authored.isEmpty()) {
+                    postsByAuthor.remove(doc.authorPk);
+                }
+            }
+        }
+
+        private void clear() {
+            docs.clear();
+            titleGrams.clear();
+            contentGrams.clear();
+            postsByAuthor.clear();
+        }
+
+        /**
+         * 제목(title=true) 또는 본문에서 query를 포함하는 게시글 수집
+         */
+        private void collectText(String query, boolean title, Set<Long> result) {
+            Map<String, Set<Long>> postings = title ? titleGrams : contentGrams;
+
+            // 검색어의 gram 중 가장 짧은 posting부터 교집합
+            List<Set<Long>> lists = new ArrayList<>();
+            Set<String> queryGrams = query.length() == 1 ? Set.of(query) : bigrams(query);
+            for (String gram : queryGrams) {
+                Set<Long> posting = postings.get(gram);
+                if (posting == null) {
+                    return; // 없는 gram이 하나라도 있으면 결과 없음
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            for (Long postPk : lists.get(0)) {
+                if (result.contains(postPk)) {
+                    continue;
+                }
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(postPk);
+                }
+                if (!inAll) {
+                    continue;
+                }
+                // gram이 모두 있어도 순서가 다를 수 있으므로 원문으로 최종 확인
+                Doc doc = docs.get(postPk);
+                String text = title ? doc.title : doc.content;
+                if (text.contains(query)) {
+                    result.add(postPk);
+                }
+            }
+        }
+
+        private static Set<String> bigrams(String text) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + 1 < text.length(); i++) {
+                grams.add(text.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+}
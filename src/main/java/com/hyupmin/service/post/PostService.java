@@ -1,37 +1,48 @@
 package com.hyupmin.service.post;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
+import com.hyupmin.config.cache.TransactionalInvalidation;
 import com.hyupmin.domain.vote.VoteRecord;
 import com.hyupmin.repository.vote.VoteRepository;
 import com.hyupmin.repository.vote.VoteRecordRepository;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.domain.post.Post;
 import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.project.ProjectStats;
 import com.hyupmin.domain.user.User;
 import com.hyupmin.domain.vote.Vote;
 import com.hyupmin.domain.vote.VoteOption;
 import com.hyupmin.dto.post.PostCreateRequest;
+import com.hyupmin.dto.post.PostCursor;
 import com.hyupmin.dto.post.PostResponse;
+import com.hyupmin.dto.post.PostScrollResponse;
 import com.hyupmin.dto.post.PostUpdateRequest;
 import com.hyupmin.dto.post.PostSearchType;
+import com.hyupmin.dto.post.PostSummary;
 import com.hyupmin.repository.post.PostRepository;
 import com.hyupmin.repository.project.ProjectRepository;
 import com.hyupmin.repository.user.UserRepository;
+import com.hyupmin.service.project.ProjectStatsRecorder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.hyupmin.repository.attachmentFile.AttachmentFileRepository;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import com.hyupmin.file.AttachmentBlobStore;
 import com.hyupmin.file.FileStore;
+import com.hyupmin.file.StagedFiles;
 import com.hyupmin.domain.attachmentFile.AttachmentFile;
-import org.springframework.web.multipart.MultipartFile;
 import org.springframework.data.domain.PageImpl;
 
 @Service
@@ -40,6 +51,7 @@ import org.springframework.data.domain.PageImpl;
 public class PostService {
 
     private final FileStore fileStore;
+    private final AttachmentBlobStore attachmentBlobStore;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final ProjectRepository projectRepository;
@@ -47,25 +59,31 @@ public class PostService {
 
     private final VoteRepository voteRepository;
     private final VoteRecordRepository voteRecordRepository;
+    private final PostNumberAllocator postNumberAllocator;
+    private final PostSearchIndex postSearchIndex;
+    private final ProjectStatsRecorder projectStatsRecorder;
+    private final PostDetailCache postDetailCache;
+    private final PostViewCounter postViewCounter;
 
     /**
      * 게시글 생성
      */
     @Transactional
     public PostResponse createPost(PostCreateRequest request,
-                                   List<MultipartFile> files,
-                                   String userEmail) throws IOException {
+                                   StagedFiles stagedFiles,
+                                   AuthenticatedUser loginUser) {
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+        User user = userRepository.getReferenceById(loginUser.getUserPk());
 
         Project project = projectRepository.findById(request.getProjectPk())
                 .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
 
-        List<AttachmentFile> attachmentFiles = fileStore.storeFiles(files);
+        // 파일은 트랜잭션 밖에서 스테이징해둔 것을 사용, 커밋 후 최종 경로로 옮김
+        List<AttachmentFile> attachmentFiles = stagedFiles.getAttachmentFiles();
+        attachmentBlobStore.acquire(stagedFiles);
 
-        Long maxPostNumber = postRepository.findMaxPostNumberByProject(project);
-        Long nextPostNumber = maxPostNumber + 1;
+        // 프로젝트 시퀀스 row를 +1 해서 번호 발급 (동시 작성에도 중복 없음)
+        Long nextPostNumber = postNumberAllocator.next(project.getProjectPk());
 
         Post newPost = Post.builder()
                 .project(project)
@@ -136,123 +154,227 @@ public class PostService {
             }
         }
 
+        Long projectPk = project.getProjectPk();
+        Long postPk = savedPost.getPostPk();
+
+        // 프로젝트 통계 증가 (같은 트랜잭션)
+        projectStatsRecorder.record(projectPk, 1,
+                flag(savedPost.getIsNotice()), flag(savedPost.getHasFile()), flag(savedPost.getHasVoting()));
+
+        // 커밋 후 검색 색인에 추가 (작성자 이름은 토큰에 담긴 예전 이름이 아닌 DB의 현재 이름)
+        String authorName = user.getName();
+        TransactionalInvalidation.afterCommit(() -> postSearchIndex.add(
+                projectPk, postPk, request.getTitle(), request.getContent(),
+                loginUser.getUserPk(), authorName));
+
         return new PostResponse(savedPost, false, true);
     }
 
     /**
      * 특정 게시글 조회
      *  - 현재 로그인 사용자가 게시글 내 투표를 했는지 여부까지 함께 반환
+     *  - 사용자와 무관한 부분은 PostDetailCache에서, 투표 여부/작성자 여부만 요청마다 확인
      */
-    public PostResponse getPostById(Long postId, String userEmail) {
+    public PostResponse getPostById(Long postId, AuthenticatedUser loginUser) {
 
-        Post post = postRepository.findPostWithUserAndProjectById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        PostDetailCache.Detail detail = postDetailCache.get(postId, () -> loadDetail(postId));
 
         boolean hasVoted = false;
         boolean isAuthor = false;
 
-        List<VoteRecord> voteRecords = null;
-
-        if (userEmail != null) {
-            User user = userRepository.findByEmail(userEmail)
-                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            if (post.getUser() != null && post.getUser().getUserPk() != null) {
-                isAuthor = post.getUser().getUserPk().equals(user.getUserPk());
-            }
+        if (loginUser != null) {
+            isAuthor = loginUser.getUserPk().equals(detail.authorPk());
 
-            if (Boolean.TRUE.equals(post.getHasVoting()) && post.getVote() != null) {
-                hasVoted = voteRecordRepository
-                        .existsByUserAndVoteOption_Vote(user, post.getVote());
+            if (detail.voteId() != null) {
+                // 프록시 참조만 넘기므로 users/votes 조회 없이 exists 쿼리 하나
+                User user = userRepository.getReferenceById(loginUser.getUserPk());
+                Vote vote = voteRepository.getReferenceById(detail.voteId());
+                hasVoted = voteRecordRepository.existsByUserAndVoteOption_Vote(user, vote);
             }
         }
 
-        if (Boolean.TRUE.equals(post.getHasVoting())
-                && post.getVote() != null
-                && Boolean.FALSE.equals(post.getVote().getIsAnonymous())) {
+        // 조회수는 메모리에서만 올리고 주기적으로 DB에 반영 (조회가 쓰기가 되지 않도록)
+        postViewCounter.increment(postId);
 
-            voteRecords = voteRecordRepository.findByVoteOption_Vote(post.getVote());
-        }
+        // 캐시된 조회수(캐시할 때의 DB 값) + 그 이후 DB에 반영된 조회수 + 아직 반영 안 된 조회수
+        long extraViews = postDetailCache.viewsSinceLoad(detail, () -> postViewCounter.pending(postId));
+        return new PostResponse(detail.response(), hasVoted, isAuthor, extraViews);
+    }
+
+    /**
+     * 캐시 미스 시 상세 응답 만들기 (요청자 정보 없이)
+     * - 투표자 수와 관계없이 최대 3번의 쿼리
+     *   1) 게시글 + 작성자 + 투표 + 투표 항목
+     *   2) 첨부파일 (PostResponse에서 지연 로딩)
+     *   3) 실명 투표일 때만: 투표 기록 + 투표자
+     */
+    private PostDetailCache.Detail loadDetail(Long postId) {
+        Post post = postRepository.findPostDetailById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+
+        List<VoteRecord> voteRecords = null;
+        Long voteId = null;
 
+        if (Boolean.TRUE.equals(post.getHasVoting()) && post.getVote() != null) {
+            voteId = post.getVote().getId();
 
-        return new PostResponse(post, hasVoted, isAuthor, voteRecords);
+            if (Boolean.FALSE.equals(post.getVote().getIsAnonymous())) {
+                voteRecords = voteRecordRepository.findWithUserByVote(post.getVote());
+            }
+        }
 
+        PostResponse response = new PostResponse(post, false, false, voteRecords);
+        return new PostDetailCache.Detail(response, post.getUser().getUserPk(), voteId);
     }
 
     /**
      * 특정 프로젝트의 게시글 목록 조회 (페이징 + 검색)
+     * - 목록은 PostSummary(본문/첨부/투표 제외)로만 조회한다.
+     * - 검색어가 없으면 통계 조회 + 목록 조회, 두 번의 쿼리로 끝난다.
+     * - 트랜잭션 없이 실행: 검색 색인을 처음 만들 때 이 요청의 예전 스냅샷이 아닌 최신 커밋 상태로 읽도록 (PostSearchIndex)
      */
-    public Page<PostResponse> getPostsByProject(Long projectPk,
-                                                String keyword,
-                                                PostSearchType searchType,
-                                                Pageable pageable) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Page<PostSummary> getPostsByProject(Long projectPk,
+                                               String keyword,
+                                               PostSearchType searchType,
+                                               Pageable pageable) {
 
-        Project project = projectRepository.findById(projectPk)
-                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
+        if (keyword == null || keyword.isBlank()) {
+            // 전체 개수는 COUNT 쿼리 대신 project_stats에서 (row가 없을 때만 프로젝트 존재 확인)
+            ProjectStats stats = projectStatsRecorder.find(projectPk)
+                    .orElseGet(() -> {
+                        findProject(projectPk);
+                        return projectStatsRecorder.get(projectPk);
+                    });
+            List<PostSummary> posts = postRepository.findSummariesByProject(projectPk, pageable);
+            addPendingViews(posts);
+            return new PageImpl<>(posts, pageable, stats.getPostCount());
+        }
 
-        Page<Post> postsPage;
+        findProject(projectPk);
 
-        if (keyword == null || keyword.isBlank()) {
-            postsPage = postRepository.findByProjectWithUser(project, pageable);
-        } else {
+        if (searchType == null) {
+            searchType = PostSearchType.ALL;
+        }
 
-            if (searchType == null) {
-                searchType = PostSearchType.ALL;
-            }
+        // 검색은 인메모리 색인에서 (LIKE 전체 스캔 없음, 총 개수도 색인 결과 그대로)
+        return searchPosts(projectPk, keyword, searchType, pageable);
+    }
+
+    // 색인 검색 결과(postPk 내림차순)에서 요청 페이지만 DB에서 읽어옴
+    private Page<PostSummary> searchPosts(Long projectPk, String keyword, PostSearchType searchType, Pageable pageable) {
+        List<Long> matched = postSearchIndex.search(projectPk, keyword, searchType);
 
-            switch (searchType) {
-                case TITLE:
-                    postsPage = postRepository.searchByProjectAndTitle(project, keyword, pageable);
-                    break;
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> pagePks = matched.subList(from, to);
+        if (pagePks.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, matched.size());
+        }
 
-                case AUTHOR:
-                    postsPage = postRepository.searchByProjectAndAuthor(project, keyword, pageable);
-                    break;
+        Map<Long, PostSummary> byPk = new HashMap<>();
+        for (PostSummary summary : postRepository.findSummariesByPostPkIn(pagePks)) {
+            byPk.put(summary.getPostPk(), summary);
+        }
 
-                case ALL:
-                default:
-                    postsPage = postRepository.searchByProjectAndTitleOrAuthor(project, keyword, pageable);
-                    break;
+        List<PostSummary> content = new ArrayList<>();
+        for (Long postPk : pagePks) {
+            PostSummary summary = byPk.get(postPk);
+            if (summary != null) {
+                content.add(summary);
             }
         }
+        addPendingViews(content);
+        return new PageImpl<>(content, pageable, matched.size());
+    }
 
-        List<PostResponse> dtoList = new ArrayList<>();
-
-        for (Post post : postsPage.getContent()) {
-            PostResponse dto = new PostResponse(post);
-            dto.setPostNumber(post.getPostNumber());
-            dtoList.add(dto);
+    // 목록의 조회수에 아직 DB에 반영 안 된 값 더하기
+    private void addPendingViews(List<PostSummary> posts) {
+        for (PostSummary post : posts) {
+            post.addPendingViews(postViewCounter.pending(post.getPostPk()));
         }
+    }
 
-        return new PageImpl<>(dtoList, postsPage.getPageable(), postsPage.getTotalElements());
+    private Project findProject(Long projectPk) {
+        return projectRepository.findById(projectPk)
+                .orElseThrow(() -> new IllegalArgumentException("프로젝트를 찾을 수 없습니다."));
     }
 
 
+    /**
+     * 특정 프로젝트의 게시글 목록 조회 (커서 기반)
+     * - 정렬은 기존 목록과 같음: 공지글 먼저, 그 안에서 최신순
+     * - 공지글을 다 내려주면 일반글 처음부터 이어서 채운다.
+     * - 페이지가 깊어져도 OFFSET/COUNT가 없으므로 조회 비용이 일정하다.
+     */
+    public PostScrollResponse scrollPostsByProject(Long projectPk, String cursor, int size) {
+        findProject(projectPk);
+
+        PostCursor position = (cursor == null || cursor.isBlank())
+                ? new PostCursor(true, Long.MAX_VALUE)
+                : PostCursor.decode(cursor);
+
+        // 다음 페이지 존재 여부를 알기 위해 한 개 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostSummary> posts = new ArrayList<>();
+        if (position.isNotice()) {
+            posts.addAll(postRepository.findSummarySliceByProject(projectPk, true, position.getPostPk(), limit));
+        }
+        if (posts.size() <= size) {
+            Long before = position.isNotice() ? Long.MAX_VALUE : position.getPostPk();
+            posts.addAll(postRepository.findSummarySliceByProject(
+                    projectPk, false, before, PageRequest.of(0, size + 1 - posts.size())));
+        }
+
+        boolean hasNext = posts.size() > size;
+        if (hasNext) {
+            posts = posts.subList(0, size);
+        }
+        addPendingViews(posts);
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostSummary last = posts.get(posts.size() - 1);
+            nextCursor = new PostCursor(Boolean.TRUE.equals(last.getIsNotice()), last.getPostPk()).encode();
+        }
+        return new PostScrollResponse(posts, nextCursor, hasNext);
+    }
+
     /**
      * 게시글 수정
      */
     @Transactional
     public PostResponse updatePost(Long postId,
                                    PostUpdateRequest request,
-                                   List<MultipartFile> files,
-                                   String userEmail) throws IOException {
-
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+                                   StagedFiles stagedFiles,
+                                   AuthenticatedUser loginUser) {
 
         Post post = postRepository.findPostWithUserAndProjectById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        if (!post.getUser().equals(user)) {
+        if (!isAuthor(post, loginUser)) {
             throw new SecurityException("수정 권한이 없습니다.");
         }
 
+        // 통계 증감 계산용 (변경 전 상태)
+        long noticeBefore = flag(post.getIsNotice());
+        long fileBefore = flag(post.getHasFile());
+        long voteBefore = flag(post.getHasVoting());
+
         post.update(request.getTitle(), request.getContent(), request.getIsNotice());
 
+        // 커밋 후 검색 색인 갱신
+        Long projectPk = post.getProject().getProjectPk();
+        String title = post.getTitle();
+        String content = post.getContent();
+        TransactionalInvalidation.afterCommit(() -> postSearchIndex.update(projectPk, postId, title, content));
+        postDetailCache.invalidate(postId);
+
         List<AttachmentFile> existingFiles =
                 attachmentFileRepository.findByPost_PostPkAndIsDeletedFalse(postId);
 
-        List<AttachmentFile> newFiles = fileStore.storeFiles(files);
+        List<AttachmentFile> newFiles = stagedFiles.getAttachmentFiles();
+        attachmentBlobStore.acquire(stagedFiles);
         if (newFiles != null) {
             for (AttachmentFile file : newFiles) {
                 file.setPost(post);
@@ -353,6 +475,11 @@ public class PostService {
         }
 
 
+        projectStatsRecorder.record(projectPk, 0,
+                flag(post.getIsNotice()) - noticeBefore,
+                flag(post.getHasFile()) - fileBefore,
+                flag(post.getHasVoting()) - voteBefore);
+
         return new PostResponse(post);
     }
 
@@ -360,49 +487,70 @@ public class PostService {
      * 게시글 삭제
      */
     @Transactional
-    public void deletePost(Long postId, String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
+    public void deletePost(Long postId, AuthenticatedUser loginUser) {
         Post post = postRepository.findPostWithUserAndProjectById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        if (!post.getUser().equals(user)) {
+        if (!isAuthor(post, loginUser)) {
             throw new SecurityException("삭제 권한이 없습니다.");
         }
 
         Project project = post.getProject();
         Long deletedPostNumber = post.getPostNumber();
-        
+        long notice = flag(post.getIsNotice());
+        long file = flag(post.getHasFile());
+        long vote = flag(post.getHasVoting());
+
+        // 시퀀스 row를 먼저 잠가서 같은 프로젝트의 게시글 작성과 겹치지 않게 함
+        postNumberAllocator.release(project.getProjectPk());
+
+        // 첨부파일 blob 참조 해제 (마지막 참조였으면 정리 작업에서 파일까지 지워짐)
+        attachmentBlobStore.release(post.getAttachmentFiles().stream()
+                .filter(attachment -> !attachment.isDeleted())
+                .map(AttachmentFile::getContentHash)
+                .toList());
+
         postRepository.delete(post);
 
-        List<Post> postsToShift =
-                postRepository.findByProjectAndPostNumberGreaterThanOrderByPostNumberAsc(project, deletedPostNumber);
+        // 뒤 번호 게시글들을 bulk UPDATE로 -1 (엔티티 로딩 없음)
+        postRepository.shiftPostNumbersAfter(project, deletedPostNumber);
+        postRepository.restoreShiftedPostNumbers(project);
 
-        for (Post p : postsToShift) {
-            p.setPostNumber(p.getPostNumber() - 1);
-            // save 안 해도 @Transactional + 더티체킹으로 UPDATE 됨
-        }
+        Long projectPk = project.getProjectPk();
+        projectStatsRecorder.record(projectPk, -1, -notice, -file, -vote);
+
+        TransactionalInvalidation.afterCommit(() -> postSearchIndex.remove(projectPk, postId));
+        postDetailCache.invalidate(postId);
+    }
+
+
+    // 작성자 확인 (post.user는 fetch join 되어 있으므로 PK 비교만으로 충분)
+    private boolean isAuthor(Post post, AuthenticatedUser loginUser) {
+        return post.getUser().getUserPk().equals(loginUser.getUserPk());
     }
 
+    // 통계 증감용 (true면 1)
+    private static long flag(Boolean value) {
+        return Boolean.TRUE.equals(value) ? 1 : 0;
+    }
 
     /**
      * 게시글을 공지사항으로 등록
      */
     @Transactional
-    public PostResponse markAsNotice(Long postId, String userEmail) {
-
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
+    public PostResponse markAsNotice(Long postId, AuthenticatedUser loginUser) {
         Post post = postRepository.findPostWithUserAndProjectById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        if (!post.getUser().equals(user)) {
+        if (!isAuthor(post, loginUser)) {
             throw new SecurityException("공지 등록 권한이 없습니다.");
         }
 
+        if (!Boolean.TRUE.equals(post.getIsNotice())) {
+            projectStatsRecorder.record(post.getProject().getProjectPk(), 0, 1, 0, 0);
+        }
         post.setIsNotice(true);
+        postDetailCache.invalidate(postId);
 
         return new PostResponse(post);
     }
@@ -411,19 +559,19 @@ public class PostService {
      * 게시글 공지사항에서 해제
      */
     @Transactional
-    public PostResponse unmarkAsNotice(Long postId, String userEmail) {
-
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
+    public PostResponse unmarkAsNotice(Long postId, AuthenticatedUser loginUser) {
         Post post = postRepository.findPostWithUserAndProjectById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
 
-        if (!post.getUser().equals(user)) {
+        if (!isAuthor(post, loginUser)) {
             throw new SecurityException("공지 해제 권한이 없습니다.");
         }
 
+        if (Boolean.TRUE.equals(post.getIsNotice())) {
+            projectStatsRecorder.record(post.getProject().getProjectPk(), 0, -1, 0, 0);
+        }
         post.setIsNotice(false);
+        postDetailCache.invalidate(postId);
 
         return new PostResponse(post);
     }
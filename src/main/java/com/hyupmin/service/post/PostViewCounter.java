@@ -0,0 +1,120 @@
+package com.hyupmin.service.post;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 조회수 (write-behind)
+ * - 조회할 때는 메모리의 카운터만 올리고, 주기적으로 모아서 batch UPDATE 한 번(한 트랜잭션)으로 DB에 반영한다.
+ * - 화면에 보이는 조회수 = DB 값 + 아직 반영 안 된 값(pending) (상세 캐시는 PostDetailCache.viewsSinceLoad)
+ * - 비정상 종료 시 잃는 조회수는 최대 flush 주기만큼이다. 정상 종료 시에는 마지막으로 한 번 더 반영한다.
+ */
+@Component
+public class PostViewCounter {
+
+    private static final String FLUSH_SQL =
+            "UPDATE posts SET view_count = COALESCE(view_count, 0) + ? WHERE post_pk = ?";
+
+    // 맵에서 정리 중인 카운터 표시 (이 값이 된 카운터에는 더 올리지 않고 새 카운터를 만든다)
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCache postDetailCache;
+
+    // postPk -> 아직 DB에 반영 안 된 조회수
+    private final ConcurrentHashMap<Long, AtomicLong> pending = new ConcurrentHashMap<>();
+
+    public PostViewCounter(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           PostDetailCache postDetailCache,
+                           MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postDetailCache = postDetailCache;
+        Gauge.builder("post.view-count.pending", pending, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 1회 기록 (DB 접근 없음)
+     * - flush가 방금 정리한 카운터를 잡았으면 맵에서 빼고 새 카운터에 다시 기록한다. (조회수를 잃지 않도록)
+     */
+    public void increment(Long postPk) {
+        while (true) {
+            AtomicLong counter = pending.computeIfAbsent(postPk, pk -> new AtomicLong());
+            if (counter.getAndUpdate(count -> count == REMOVED ? REMOVED : count + 1) != REMOVED) {
+                return;
+            }
+            pending.remove(postPk, counter);
+        }
+    }
+
+    /**
+     * 아직 DB에 반영 안 된 조회수
+     */
+    public long pending(Long postPk) {
+        AtomicLong counter = pending.get(postPk);
+        if (counter == null) {
+            return 0;
+        }
+        long count = counter.get();
+        return count == REMOVED ? 0 : count;
+    }
+
+    /**
+     * 쌓인 조회수를 batch UPDATE로 반영
+     * - 한 트랜잭션으로 반영하므로 일부만 반영되고 실패하는 경우가 없다. (실패하면 pending에 그대로 남아 다음 주기에 다시 시도)
+     * - 반영한 만큼만 빼므로 flush 도중에 들어온 조회는 다음 flush로 넘어간다.
+     * - 지난 주기 동안 조회가 없던 게시글은 맵에서 정리한다. (0일 때만 REMOVED로 바꾼 뒤 제거하므로 동시에 들어온 조회를 잃지 않음)
+     * - 상세 캐시는 비우지 않고, 캐시된 엔트리에 반영한 만큼 더해 둔다. (PostDetailCache.applyFlushedViews)
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval:5000}")
+    public synchronized void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        Map<Long, AtomicLong> counters = new HashMap<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, AtomicLong> entry : pending.entrySet()) {
+            AtomicLong counter = entry.getValue();
+            long delta = counter.get();
+            if (delta == 0) {
+                if (counter.compareAndSet(0, REMOVED)) {
+                    pending.remove(entry.getKey(), counter);
+                }
+                continue;
+            }
+            if (delta == REMOVED) {
+                continue;
+            }
+            deltas.put(entry.getKey(), delta);
+            counters.put(entry.getKey(), counter);
+            batch.add(new Object[]{delta, entry.getKey()});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        postDetailCache.applyFlushedViews(deltas, () -> {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+            deltas.forEach((postPk, delta) -> counters.get(postPk).addAndGet(-delta));
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,69 @@
+package com.hyupmin.service.project;
+
+import com.hyupmin.config.cache.ExpiringCache;
+import com.hyupmin.config.cache.TransactionalInvalidation;
+import com.hyupmin.domain.projectUser.ProjectMembership;
+import com.hyupmin.repository.project.ProjectUserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 프로젝트 참여 권한 확인 (모든 서비스 공용)
+ * - (projectPk, userPk) -> 참여 상태/역할을 캐시해서, 캐시가 데워진 뒤에는 쿼리 없이 권한을 확인한다.
+ * - 참여 정보가 바뀌는 곳(승인, 거절, 추방, 나가기, 권한 양도, 프로젝트 삭제, 참여 요청)에서 무효화해야 한다.
+ */
+@Component
+public class MembershipAuthorizer {
+
+    private final ProjectUserRepository projectUserRepository;
+    private final ExpiringCache<MembershipKey, ProjectMembership> memberships;
+
+    public MembershipAuthorizer(ProjectUserRepository projectUserRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${project.membership-cache.max-size:50000}") int maxSize,
+                                @Value("${project.membership-cache.ttl:600000}") long ttlMillis) {
+        this.projectUserRepository = projectUserRepository;
+        this.memberships = new ExpiringCache<MembershipKey, ProjectMembership>(maxSize, ttlMillis)
+                .bindTo(meterRegistry, "project.memberships");
+    }
+
+    /**
+     * 참여 정보 조회 (없으면 ProjectMembership.NONE)
+     */
+    public ProjectMembership getMembership(Long projectPk, Long userPk) {
+        return memberships.get(new MembershipKey(projectPk, userPk),
+                key -> projectUserRepository.findMembership(key.projectPk(), key.userPk())
+                        .orElse(ProjectMembership.NONE));
+    }
+
+    /**
+     * 승인(APPROVED)된 멤버인지 확인, 아니면 AccessDeniedException
+     */
+    public ProjectMembership requireApproved(Long projectPk, Long userPk) {
+        ProjectMembership membership = getMembership(projectPk, userPk);
+
+        if (!membership.exists()) {
+            throw new AccessDeniedException("프로젝트에 참여 중이 아닙니다.");
+        }
+        if (!membership.isApproved()) {
+            throw new AccessDeniedException("프로젝트 참여 승인을 기다려야 합니다.");
+        }
+        return membership;
+    }
+
+    // 특정 사용자의 참여 정보 무효화
+    public void invalidate(Long projectPk, Long userPk) {
+        MembershipKey key = new MembershipKey(projectPk, userPk);
+        TransactionalInvalidation.run(() -> memberships.invalidate(key));
+    }
+
+    // 프로젝트 전체 참여 정보 무효화 (프로젝트 삭제 시)
+    public void invalidateProject(Long projectPk) {
+        TransactionalInvalidation.run(() -> memberships.invalidateIf(key -> key.projectPk().equals(projectPk)));
+    }
+
+    private record MembershipKey(Long projectPk, Long userPk) {
+    }
+}
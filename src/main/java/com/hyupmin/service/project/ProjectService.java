@@ -1,14 +1,21 @@
 package com.hyupmin.service.project;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
+import com.hyupmin.config.cache.TransactionalInvalidation;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.projectUser.ProjectMembership;
 import com.hyupmin.domain.projectUser.ProjectUser;
 import com.hyupmin.domain.projectUser.ProjectUser.ProjectStatus;
 import com.hyupmin.domain.projectUser.ProjectUser.ProjectRole;
 import com.hyupmin.domain.user.User;
 import com.hyupmin.dto.project.*;
+import com.hyupmin.file.AttachmentBlobStore;
+import com.hyupmin.repository.attachmentFile.AttachmentFileRepository;
 import com.hyupmin.repository.project.ProjectRepository;
 import com.hyupmin.repository.project.ProjectUserRepository;
+import com.hyupmin.service.post.PostNumberAllocator;
+import com.hyupmin.service.post.PostSearchIndex;
 import com.hyupmin.service.user.UserService;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
@@ -24,6 +31,12 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectUserRepository projectUserRepository;
     private final UserService userService;
+    private final MembershipAuthorizer membershipAuthorizer;
+    private final PostNumberAllocator postNumberAllocator;
+    private final PostSearchIndex postSearchIndex;
+    private final ProjectStatsRecorder projectStatsRecorder;
+    private final AttachmentFileRepository attachmentFileRepository;
+    private final AttachmentBlobStore attachmentBlobStore;
 
     // 프로젝트 조회 편의 메서드
     public Project findProjectById(Long projectId) {
@@ -31,10 +44,15 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 프로젝트입니다."));
     }
 
+    // 방장 여부 확인 <- owner는 지연 로딩이므로 PK만 비교해서 users 조회를 피한다.
+    private boolean isOwner(Project project, AuthenticatedUser loginUser) {
+        return project.getOwner().getUserPk().equals(loginUser.getUserPk());
+    }
+
     // 프로젝트 생성
     @Transactional
-    public ProjectResponseDTO createProject(ProjectCreateRequest request, String ownerEmail) {
-        User owner = userService.findByEmail(ownerEmail); // UserService 클래스에서 정의한 email을 받아  owner객체에 저장.
+    public ProjectResponseDTO createProject(ProjectCreateRequest request, AuthenticatedUser loginUser) {
+        User owner = userService.getReference(loginUser.getUserPk()); // 로그인 사용자 PK로 owner 참조 (SELECT 없음)
 
         // Project 엔티티 생성 (생성자에서 joinCode 자동 생성)
         Project project = new Project(request.getProjectName(), owner); // 프로젝트 생성 시 입력한 name, description을 ProjectCreateRequest request(dto)에서 값을 가져옴.
@@ -45,13 +63,17 @@ public class ProjectService {
         projectUserRepository.save(ownerMember);
         savedProject.getProjectUsers().add(ownerMember);
 
+        // 게시글 번호 시퀀스, 통계 row 생성
+        postNumberAllocator.initialize(savedProject.getProjectPk());
+        projectStatsRecorder.initialize(savedProject.getProjectPk());
+
         return ProjectResponseDTO.from(savedProject, ownerMember);
     }
 
     // 현재 참여 중인 프로젝트 목록 조회
     @Transactional(readOnly = true)
-    public List<ProjectListResponse> getParticipatingProjects(String userEmail) {
-        User user = userService.findByEmail(userEmail); // 매개변수로 userEmail을 받아 DB에서 email 조회.
+    public List<ProjectListResponse> getParticipatingProjects(AuthenticatedUser loginUser) {
+        User user = userService.getReference(loginUser.getUserPk()); // PK 참조만 사용 (users 조회 없음)
 
         // APPROVED 상태인 ProjectUser 목록만 조회
         List<ProjectUser> approvedProjects = projectUserRepository.findByUserAndStatus(user, ProjectStatus.APPROVED);
@@ -64,27 +86,29 @@ public class ProjectService {
 
     // 단일 프로젝트 조회 <- 대시보드에서 해당 프로젝트 클릭시 사용자가 'APPROVED' 상태인지 권한 확인 후 프로젝트 기본 정보 반환.
     @Transactional(readOnly = true)
-    public ProjectResponseDTO getProject(Long projectId, String userEmail) {
-        Project project = findProjectById(projectId);
-        User user = userService.findByEmail(userEmail);
+    public ProjectResponseDTO getProject(Long projectId, AuthenticatedUser loginUser) {
+        // 현재 접속자의 참여 정보 조회 (MembershipAuthorizer 캐시)
+        ProjectMembership membership = membershipAuthorizer.getMembership(projectId, loginUser.getUserPk());
 
-        // 현재 접속자의 ProjectUser 정보 조회
-        ProjectUser currentUserProjectUser = projectUserRepository.findByProjectAndUser(project, user)
-                .orElseThrow(() -> new AccessDeniedException("해당 프로젝트에 참여 중이 아닙니다."));
+        if (!membership.exists()) {
+            throw new AccessDeniedException("해당 프로젝트에 참여 중이 아닙니다.");
+        }
 
-        if (currentUserProjectUser.getStatus() != ProjectStatus.APPROVED) {
+        if (!membership.isApproved()) {
             throw new AccessDeniedException("해당 프로젝트에 참여 중이거나 승인 대기 중입니다.");
         }
 
-        // ProjectUser 정보를 포함하여 DTO 변환
-        return ProjectResponseDTO.from(project, currentUserProjectUser);
+        Project project = findProjectById(projectId);
+
+        // 참여 정보를 포함하여 DTO 변환
+        return ProjectResponseDTO.from(project, membership);
     }
     // 프로젝트 수정 <- 권한 확인 후 변경 가능.
     @Transactional
-    public ProjectResponseDTO updateProject(Long projectId, ProjectCreateRequest request, String requesterEmail) { // requesterEmail: 수정을 하는 사용자의 권한 확인이 필요하기 때문에 매개변수로 받는다.
+    public ProjectResponseDTO updateProject(Long projectId, ProjectCreateRequest request, AuthenticatedUser loginUser) { // loginUser: 수정을 하는 사용자의 권한 확인이 필요하기 때문에 매개변수로 받는다.
         Project project = findProjectById(projectId); // projectId를 통해 DB에서 조회.
 
-        if (!project.getOwner().getEmail().equals(requesterEmail)) { // 프로젝트 방장이 아닌 경우 예외 처리.
+        if (!isOwner(project, loginUser)) { // 프로젝트 방장이 아닌 경우 예외 처리.
             throw new AccessDeniedException("프로젝트 방장만 정보를 수정할 수 있습니다.");
         }
 
@@ -94,11 +118,11 @@ public class ProjectService {
 
     // 프로젝트 나가기 <- 사용자가 프로젝트를 나가기 위한 조건 검사.
     @Transactional
-    public void leaveProject(Long projectId, String userEmail, String projectNameToConfirm) {
+    public void leaveProject(Long projectId, AuthenticatedUser loginUser, String projectNameToConfirm) {
         Project project = findProjectById(projectId);
-        User user = userService.findByEmail(userEmail);
+        User user = userService.getReference(loginUser.getUserPk());
 
-        if (project.getOwner().getEmail().equals(userEmail)) {
+        if (isOwner(project, loginUser)) {
             throw new AccessDeniedException("방장은 프로젝트를 나가려면 권한을 위임해야 합니다.");
         }
 
@@ -110,14 +134,15 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트에 참여 중인 사용자가 아닙니다."));
 
         projectUserRepository.delete(projectUser);
+        membershipAuthorizer.invalidate(projectId, loginUser.getUserPk());
     }
 
     // 프로젝트 삭제 <- 권한 확인 후 삭제 가능.
     @Transactional
-    public void deleteProject(Long projectId, String requesterEmail, String projectNameToConfirm) { // 권한 확인을 위해 userEmail을 받음.
+    public void deleteProject(Long projectId, AuthenticatedUser loginUser, String projectNameToConfirm) { // 권한 확인을 위해 로그인 사용자를 받음.
         Project project =  findProjectById(projectId);
 
-        if (!project.getOwner().getEmail().equals(requesterEmail)) { // 방장이 아닌 경우 예외 처리.
+        if (!isOwner(project, loginUser)) { // 방장이 아닌 경우 예외 처리.
             throw new AccessDeniedException("프로젝트 방장만 프로젝트를 삭제할 수 있습니다.");
         }
 
@@ -127,24 +152,40 @@ public class ProjectService {
 
         //프로젝트에 'APPROVE' 상태인 사용자가 자기 자신뿐인 경우 삭제 처리 (다른 사용자도 있을 경우 예외 처리 필요).
 
+        // 게시글 첨부파일의 blob 참조 해제 (cascade로 row가 지워지기 전에)
+        attachmentBlobStore.release(attachmentFileRepository.findContentHashesByProjectPk(projectId));
+
         projectRepository.delete(project);
+        postNumberAllocator.remove(projectId);
+        projectStatsRecorder.remove(projectId);
+        membershipAuthorizer.invalidateProject(projectId);
+        TransactionalInvalidation.afterCommit(() -> postSearchIndex.dropProject(projectId));
+    }
+
+    // 프로젝트 게시글 통계 조회 (대시보드, 승인된 멤버만)
+    @Transactional(readOnly = true)
+    public ProjectStatsResponse getProjectStats(Long projectId, AuthenticatedUser loginUser) {
+        membershipAuthorizer.requireApproved(projectId, loginUser.getUserPk());
+        return ProjectStatsResponse.from(projectStatsRecorder.get(projectId));
     }
 
     // 프로젝트 코드 확인 (방장 권한)
     @Transactional(readOnly = true)
-    public ProjectCodeResponse getProjectJoinCode(Long projectId, String requesterEmail) {
-        Project project = findProjectById(projectId);
-        User requester = userService.findByEmail(requesterEmail);
+    public ProjectCodeResponse getProjectJoinCode(Long projectId, AuthenticatedUser loginUser) {
+        ProjectMembership membership = membershipAuthorizer.getMembership(projectId, loginUser.getUserPk());
 
         // 1. 프로젝트에 참여 중인지 확인
-        ProjectUser projectUser = projectUserRepository.findByProjectAndUser(project, requester)
-                .orElseThrow(() -> new AccessDeniedException("프로젝트에 참여 중인 멤버가 아닙니다."));
+        if (!membership.exists()) {
+            throw new AccessDeniedException("프로젝트에 참여 중인 멤버가 아닙니다.");
+        }
 
         // 2. 참여가 '승인(APPROVED)'되었는지 확인
-        if (projectUser.getStatus() != ProjectStatus.APPROVED) {
+        if (!membership.isApproved()) {
             throw new AccessDeniedException("프로젝트 참여 승인을 받은 멤버만 코드를 조회할 수 있습니다.");
         }
 
+        Project project = findProjectById(projectId);
+
         return ProjectCodeResponse.builder()
                 .projectPk(project.getProjectPk())
                 .projectName(project.getName())
@@ -155,11 +196,11 @@ public class ProjectService {
 
     // 참여 코드 검색 및 참여 요청
     @Transactional
-    public ProjectJoinRequestResponse requestJoin(String joinCode, String requesterEmail) {
+    public ProjectJoinRequestResponse requestJoin(String joinCode, AuthenticatedUser loginUser) {
         Project project = projectRepository.findByJoinCode(joinCode)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 참여 코드입니다."));
 
-        User requester = userService.findByEmail(requesterEmail);
+        User requester = userService.getReference(loginUser.getUserPk());
 
         // 2. 이미 요청했거나 참여 중인지 확인
         if (projectUserRepository.existsByProjectAndUser(project, requester)) {
@@ -168,12 +209,13 @@ public class ProjectService {
 
         ProjectUser projectUser = new ProjectUser(project, requester, ProjectStatus.PENDING, ProjectRole.MEMBER); // ProjectUser 생성자를 이용해서 요청 정보 저장.
         projectUserRepository.save(projectUser);
+        membershipAuthorizer.invalidate(project.getProjectPk(), loginUser.getUserPk());
 
         // 요청 결과를 DTO로 반환
         return ProjectJoinRequestResponse.builder()
                 .projectPk(project.getProjectPk())
                 .projectName(project.getName())
-                .requesterEmail(requesterEmail)
+                .requesterEmail(loginUser.getEmail())
                 .status(ProjectStatus.PENDING.name())
                 .message("프로젝트 방장에게 참여 요청을 보냈습니다. 승인을 기다려주세요.")
                 .build();
@@ -181,7 +223,7 @@ public class ProjectService {
 
     // 프로젝트 참여 요청 승인.
     @Transactional
-    public ProjectResponseDTO approveProject(Long projectId, String requesterEmail, Long projectUserPk) { // 어떤 프로젝트인지 누가 요청한지. + 해당 프로젝트에 요청한 유저가 존재하는지 확인을 위한 projectUserPk.
+    public ProjectResponseDTO approveProject(Long projectId, AuthenticatedUser loginUser, Long projectUserPk) { // 어떤 프로젝트인지 누가 요청한지. + 해당 프로젝트에 요청한 유저가 존재하는지 확인을 위한 projectUserPk.
 
         Project project = findProjectById(projectId);
 
@@ -189,17 +231,18 @@ public class ProjectService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 참여 요청 정보입니다."));
 
         projectUser.approve();
+        membershipAuthorizer.invalidate(projectUser.getProject().getProjectPk(), projectUser.getUser().getUserPk());
 
         return ProjectResponseDTO.from(project);
     }
 
     // 프로젝트 참여 요청 거절 (방장 권한)
     @Transactional
-    public void rejectProjectJoin(Long projectId, Long projectUserPk, String ownerEmail) {
+    public void rejectProjectJoin(Long projectId, Long projectUserPk, AuthenticatedUser loginUser) {
         Project project = findProjectById(projectId);
 
         // 요청자가 프로젝트 방장인지 확인
-        if (!project.getOwner().getEmail().equals(ownerEmail)) {
+        if (!isOwner(project, loginUser)) {
             throw new AccessDeniedException("프로젝트 소유자만 참여 요청을 거절할 수 있습니다.");
         }
 
@@ -219,15 +262,16 @@ public class ProjectService {
 
         // ProjectUser 삭제 (거절 처리)
         projectUserRepository.delete(projectUser);
+        membershipAuthorizer.invalidate(projectId, projectUser.getUser().getUserPk());
     }
 
     // 승인 대기 중인 요청 목록 조회 <- 방장의 설정 페이지 창 요청에 사용.
     @Transactional(readOnly = true)
-    public List<ProjectJoinRequestResponse> getPendingRequestsList(Long projectId, String ownerEmail) {
+    public List<ProjectJoinRequestResponse> getPendingRequestsList(Long projectId, AuthenticatedUser loginUser) {
         Project project = findProjectById(projectId);
 
         // 방장인지 권한 확인.
-        if (!project.getOwner().getEmail().equals(ownerEmail)) {
+        if (!isOwner(project, loginUser)) {
             throw new AccessDeniedException("프로젝트 소유자만 요청 목록을 조회할 수 있습니다.");
         }
 
@@ -245,10 +289,10 @@ public class ProjectService {
     }
 
     @Transactional
-    public void expelProjectMember(Long projectId, Long projectUserPk, String ownerEmail) {
+    public void expelProjectMember(Long projectId, Long projectUserPk, AuthenticatedUser loginUser) {
         Project project = findProjectById(projectId);
 
-        if (!project.getOwner().getEmail().equals(ownerEmail)) {
+        if (!isOwner(project, loginUser)) {
             throw new AccessDeniedException("프로젝트 방장만 멤버를 추방할 수 있습니다.");
         }
 
@@ -260,16 +304,17 @@ public class ProjectService {
         }
 
         projectUserRepository.delete(memberToExpel);
+        membershipAuthorizer.invalidate(memberToExpel.getProject().getProjectPk(), memberToExpel.getUser().getUserPk());
     }
 
     // 프로젝트 관리자 권한 양도
     @Transactional
-    public void transferOwnership(Long projectId, Long targetUserPk, String currentOwnerEmail) {
+    public void transferOwnership(Long projectId, Long targetUserPk, AuthenticatedUser loginUser) {
         Project project = findProjectById(projectId);
-        User currentOwner = userService.findByEmail(currentOwnerEmail);
+        User currentOwner = userService.getReference(loginUser.getUserPk());
 
         // 권한 확인
-        if (!project.getOwner().getEmail().equals(currentOwnerEmail)) {
+        if (!isOwner(project, loginUser)) {
             throw new AccessDeniedException("프로젝트 방장만 권한을 양도할 수 있습니다.");
         }
 
@@ -300,5 +345,8 @@ public class ProjectService {
         project.changeOwner(targetMember.getUser());
 
         projectRepository.save(project);
+
+        membershipAuthorizer.invalidate(projectId, loginUser.getUserPk());
+        membershipAuthorizer.invalidate(projectId, targetMember.getUser().getUserPk());
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.hyupmin.service.project;
+
+import com.hyupmin.domain.project.ProjectStats;
+import com.hyupmin.repository.project.ProjectStatsRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 프로젝트 통계(project_stats) 기록기
+ * - 게시글 변경과 같은 트랜잭션에서 증감 UPDATE 한 번으로 반영한다. (롤백되면 통계도 함께 롤백)
+ */
+@Component
+@RequiredArgsConstructor
+public class ProjectStatsRecorder {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO project_stats (project_pk, post_count, notice_count, file_post_count, vote_post_count) " +
+            "VALUES (?, ?, ?, ?, ?)";
+
+    private final ProjectStatsRepository projectStatsRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 통계 증감 (게시글 변경을 DB에 반영한 뒤 호출)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long projectPk, long posts, long notices, long filePosts, long votePosts) {
+        if (posts == 0 && notices == 0 && filePosts == 0 && votePosts == 0) {
+            return;
+        }
+        if (projectStatsRepository.applyDelta(projectPk, posts, notices, filePosts, votePosts) == 0) {
+            // 통계 row가 없으면 지금 게시글 테이블에서 집계 (방금 변경도 이미 포함됨)
+            if (!initialize(projectPk)) {
+                // 다른 트랜잭션이 먼저 만들었음: 그 집계에는 아직 커밋 안 된 이번 변경이 빠져 있으므로 증감 반영
+                if (projectStatsRepository.applyDelta(projectPk, posts, notices, filePosts, votePosts) == 0) {
+                    throw new IllegalStateException("프로젝트 통계를 갱신할 수 없습니다. 잠시 후 다시 시도해주세요.");
+                }
+            }
+        }
+    }
+
+    /**
+     * 통계 row 생성 (프로젝트 생성 시, 또는 기존 데이터 초기화)
+     * - 이미 있으면(동시에 다른 트랜잭션이 만든 경우) 그대로 두고 false
+     * - JPA save 대신 JDBC INSERT: 중복 키 예외가 리포지토리 프록시를 거치면 호출한 트랜잭션 전체가 rollback-only가 된다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean initialize(Long projectPk) {
+        ProjectStats stats = projectStatsRepository.aggregateFromPosts(projectPk)
+                .orElseGet(() -> ProjectStats.empty(projectPk));
+        try {
+            jdbcTemplate.update(INSERT_SQL, stats.getProjectPk(), stats.getPostCount(), stats.getNoticeCount(),
+                    stats.getFilePostCount(), stats.getVotePostCount());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 프로젝트 삭제 시 통계 row 제거
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void remove(Long projectPk) {
+        projectStatsRepository.deleteById(projectPk);
+    }
+
+    /**
+     * 통계 row 조회
+     */
+    public Optional<ProjectStats> find(Long projectPk) {
+        return projectStatsRepository.findById(projectPk);
+    }
+
+    /**
+     * 통계 조회 (row가 없으면 게시글 테이블에서 집계)
+     */
+    public ProjectStats get(Long projectPk) {
+        return projectStatsRepository.findById(projectPk)
+                .orElseGet(() -> projectStatsRepository.aggregateFromPosts(projectPk)
+                        .orElseGet(() -> ProjectStats.empty(projectPk)));
+    }
+
+    /**
+     * 기동 시 통계 row가 없는 기존 프로젝트 초기화
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializeMissing() {
+        for (Long projectPk : projectStatsRepository.findProjectPksWithoutStats()) {
+            initialize(projectPk);
+        }
+    }
+}
@@ -1,44 +1,110 @@
 package com.hyupmin.service.user;
 
-import lombok.RequiredArgsConstructor;
+import com.hyupmin.config.cache.BloomFilter;
+import com.hyupmin.config.cache.ExpiringCache;
+import com.hyupmin.config.cache.TransactionalInvalidation;
+import com.hyupmin.config.jwt.TokenRevocationRegistry;
 import com.hyupmin.domain.user.User;
+import com.hyupmin.domain.user.UserSnapshot;
 import com.hyupmin.dto.user.UserSignupRequestDTO;
 import com.hyupmin.dto.user.UserUpdateRequest;
 import com.hyupmin.dto.user.UserPasswordUpdateRequest;
 import com.hyupmin.repository.user.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.hyupmin.service.post.PostDetailCache;
+import com.hyupmin.service.post.PostSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
 
 @Service
-@RequiredArgsConstructor
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
+    private final PostSearchIndex postSearchIndex;
+    private final PostDetailCache postDetailCache;
+
+    // 사용자 스냅샷 캐시 (email / PK 두 방향으로 조회)
+    private final ExpiringCache<String, UserSnapshot> snapshotsByEmail;
+    private final ExpiringCache<Long, UserSnapshot> snapshotsByPk;
+
+    // 가입된 이메일 Bloom filter (check-email의 "사용 가능" 응답은 대부분 DB 없이 처리)
+    private final int emailFilterExpectedInsertions;
+    private volatile BloomFilter emailFilter;
+    private volatile boolean emailFilterReady = false;
+
+    public UserService(UserRepository userRepository,
+                       PasswordHasher passwordHasher,
+                       TokenRevocationRegistry tokenRevocationRegistry,
+                       PostSearchIndex postSearchIndex,
+                       PostDetailCache postDetailCache,
+                       MeterRegistry meterRegistry,
+                       @Value("${user.cache.max-size:10000}") int cacheMaxSize,
+                       @Value("${user.cache.ttl:600000}") long cacheTtlMillis,
+                       @Value("${user.email-filter.expected-insertions:100000}") int emailFilterExpectedInsertions) {
+        this.userRepository = userRepository;
+        this.passwordHasher = passwordHasher;
+        this.tokenRevocationRegistry = tokenRevocationRegistry;
+        this.postSearchIndex = postSearchIndex;
+        this.postDetailCache = postDetailCache;
+        this.snapshotsByEmail = new ExpiringCache<String, UserSnapshot>(cacheMaxSize, cacheTtlMillis)
+                .bindTo(meterRegistry, "users.by-email");
+        this.snapshotsByPk = new ExpiringCache<Long, UserSnapshot>(cacheMaxSize, cacheTtlMillis)
+                .bindTo(meterRegistry, "users.by-pk");
+        this.emailFilterExpectedInsertions = emailFilterExpectedInsertions;
+        this.emailFilter = new BloomFilter(emailFilterExpectedInsertions, 0.01);
+    }
+
+    /**
+     * 기동 후 가입된 이메일로 Bloom filter 채우기
+     * - 채우는 동안(ready 전)에는 check-email이 항상 DB를 확인한다.
+     * - 새 filter를 먼저 걸어두고 조회하므로, 그 사이 가입한 이메일도 빠지지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmEmailFilter() {
+        long userCount = userRepository.count();
+        int expected = (int) Math.max(emailFilterExpectedInsertions, Math.min(userCount * 2, Integer.MAX_VALUE));
+        BloomFilter filter = new BloomFilter(expected, 0.01);
+        this.emailFilter = filter;
+
+        List<String> emails = userRepository.findAllEmails();
+        emails.forEach(email -> filter.put(emailKey(email)));
+        this.emailFilterReady = true;
+    }
+
+    // DB collation에 따라 대소문자를 구분하지 않을 수 있으므로 소문자로 통일 (오탐만 늘고 누락은 없음)
+    private static String emailKey(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
 
     /**
      * 이메일 중복 확인
      */
     public boolean isEmailExists(String email) {
+        if (emailFilterReady && !emailFilter.mightContain(emailKey(email))) {
+            return false; // 확실히 가입되지 않은 이메일
+        }
         return userRepository.existsByEmail(email);
     }
 
     /**
-     * 회원가입 처리 (비밀번호 검증 + 암호화 + 저장)
+     * 회원가입 처리 (저장)
+     * - 비밀번호는 PasswordHasher에서 미리 암호화해서 넘긴다. (트랜잭션 안에서 BCrypt를 돌리지 않음)
      */
     @Transactional
-    public User registerUser(UserSignupRequestDTO request) {
-        // 이메일 중복 확인
-        if (userRepository.existsByEmail(request.getEmail())) {
-            throw new IllegalArgumentException("이미 존재하는 Email입니다.");
-        }
-
-        // 비밀번호 암호화
-        String encodedPassword = passwordEncoder.encode(request.getPassword());
-
+    public User registerUser(UserSignupRequestDTO request, String encodedPassword) {
         // User 엔티티 생성
         User user = new User(
                 encodedPassword,
@@ -48,8 +114,36 @@ public class UserService {
                 request.getField()
         );
 
-        // DB 저장
-        return userRepository.save(user);
+        // DB 저장 (이메일 중복은 unique 제약으로 판단)
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isEmailConflict(e)) {
+                throw new IllegalArgumentException("이미 존재하는 Email입니다.");
+            }
+            throw e;
+        }
+
+        String emailKey = emailKey(savedUser.getEmail());
+        TransactionalInvalidation.run(() -> emailFilter.put(emailKey));
+        evictSnapshot(savedUser);
+        return savedUser;
+    }
+
+    private static boolean isEmailConflict(DataIntegrityViolationException e) {
+        Throwable cause = e.getMostSpecificCause();
+        String message = cause.getMessage() != null ? cause.getMessage() : e.getMessage();
+        return message != null
+                && message.toLowerCase(Locale.ROOT).contains(User.EMAIL_UNIQUE_CONSTRAINT);
+    }
+
+    /**
+     * 로그인 사용자 PK로 엔티티 참조만 얻기 (SELECT 없음)
+     * - 연관관계 설정, PK 기반 조회 조건에 사용
+     */
+    public User getReference(Long userPk) {
+        return userRepository.getReferenceById(userPk);
     }
 
     public User findByEmail(String email) {
@@ -57,6 +151,59 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다."));
     }
 
+    /**
+     * 이메일로 사용자 스냅샷 조회 (캐시 우선)
+     * - 로그인, 내 정보 조회 등 읽기 전용 경로에서 사용
+     */
+    public UserSnapshot findSnapshotByEmail(String email) {
+        UserSnapshot snapshot = snapshotsByEmail.get(email);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(() -> findByEmail(email));
+        }
+        return snapshot;
+    }
+
+    /**
+     * PK로 사용자 스냅샷 조회 (캐시 우선)
+     */
+    public UserSnapshot findSnapshotById(Long userPk) {
+        UserSnapshot snapshot = snapshotsByPk.get(userPk);
+        if (snapshot == null) {
+            snapshot = loadSnapshot(() -> userRepository.findById(userPk)
+                    .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다.")));
+        }
+        return snapshot;
+    }
+
+    /**
+     * DB에서 읽어 스냅샷 캐시에 저장
+     * - 읽기 전에 무효화 카운터를 받아두고, 그 사이 비밀번호 변경/탈퇴 등으로 무효화되었으면 저장하지 않는다.
+     *   (커밋 직전에 읽은 옛 비밀번호 해시나 탈퇴 전 상태가 다시 캐시되지 않도록)
+     */
+    private UserSnapshot loadSnapshot(Supplier<User> loader) {
+        long emailStamp = snapshotsByEmail.invalidationStamp();
+        long pkStamp = snapshotsByPk.invalidationStamp();
+
+        UserSnapshot snapshot = UserSnapshot.from(loader.get());
+        snapshotsByEmail.putIfNotInvalidated(snapshot.getEmail(), snapshot, emailStamp);
+        snapshotsByPk.putIfNotInvalidated(snapshot.getUserPk(), snapshot, pkStamp);
+        return snapshot;
+    }
+
+    // 사용자 정보가 바뀌면 두 캐시에서 모두 제거 (커밋 후 한 번 더)
+    private void evictSnapshot(User user) {
+        evictSnapshot(user.getEmail(), user.getUserPk());
+    }
+
+    private void evictSnapshot(String email, Long userPk) {
+        TransactionalInvalidation.run(() -> {
+            snapshotsByEmail.invalidate(email);
+            if (userPk != null) {
+                snapshotsByPk.invalidate(userPk);
+            }
+        });
+    }
+
     @Transactional
     public void updateUser(String email, UserUpdateRequest request) {
         User user = userRepository.findByEmail(email)
@@ -68,31 +215,87 @@ public class UserService {
         if (request.getField() != null) user.setField(request.getField());
 
         userRepository.save(user);
+        evictSnapshot(user);
+
+        // 게시글 작성자 검색, 게시글 상세(작성자/투표자 이름)에 새 이름 반영
+        if (request.getName() != null) {
+            Long userPk = user.getUserPk();
+            String name = request.getName();
+            TransactionalInvalidation.afterCommit(() -> postSearchIndex.renameAuthor(userPk, name));
+            postDetailCache.invalidateAll();
+        }
     }
 
     /**
      * 비밀번호 확인 (본인 인증용)
+     * - BCrypt 비교는 PasswordHasher 풀에서 실행
      */
-    public boolean verifyPassword(String email, String password) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        return passwordEncoder.matches(password, user.getPassword());
+    public CompletableFuture<Boolean> verifyPassword(String email, String password) {
+        UserSnapshot user = findSnapshotOrThrow(email);
+        return passwordHasher.matches(password, user.getPassword());
     }
 
-    @Transactional
-    public void updatePassword(String email, UserPasswordUpdateRequest request) {
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+    /**
+     * 비밀번호 변경
+     * - 현재 비밀번호 비교 → 새 비밀번호 암호화를 PasswordHasher 풀에서 처리하고,
+     *   DB에는 조건부 UPDATE 한 번만 보낸다. (BCrypt 동안 커넥션/트랜잭션을 잡고 있지 않음)
+     */
+    public CompletableFuture<Void> updatePassword(String email, UserPasswordUpdateRequest request) {
+        UserSnapshot user = findSnapshotOrThrow(email);
 
-        // 현재 비밀번호 일치 여부 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
-            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+        return passwordHasher.matches(request.getCurrentPassword(), user.getPassword())
+                .thenCompose(matched -> {
+                    // 현재 비밀번호 일치 여부 확인
+                    if (!matched) {
+                        throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
+                    }
+                    // 새 비밀번호 암호화
+                    return passwordHasher.encode(request.getNewPassword());
+                })
+                .thenAccept(encodedNewPassword -> {
+                    int updated = userRepository.updatePasswordIfUnchanged(
+                            user.getUserPk(), user.getPassword(), encodedNewPassword);
+                    evictSnapshot(user.getEmail(), user.getUserPk());
+                    if (updated == 0) {
+                        throw new IllegalArgumentException("비밀번호가 이미 변경되었습니다. 다시 시도해주세요.");
+                    }
+                    // 기존에 발급된 토큰은 모두 무효 (다시 로그인 필요)
+                    tokenRevocationRegistry.revokeAllFor(user.getUserPk());
+                });
+    }
+
+    /**
+     * 로그인 성공 후 해시 cost 갱신
+     * - 저장된 해시의 cost가 현재 설정과 다르면 같은 비밀번호로 다시 해시해서 교체한다.
+     * - 로그인 응답을 늦추지 않도록 기다리지 않으며, 실패하거나 풀이 가득 차면 다음 로그인에서 다시 시도
+     */
+    public void rehashPasswordIfNeeded(UserSnapshot user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return;
+        }
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAccept(rehashed -> {
+                        // 그 사이 비밀번호가 바뀌었다면 0건 업데이트 (덮어쓰지 않음)
+                        if (userRepository.updatePasswordIfUnchanged(
+                                user.getUserPk(), user.getPassword(), rehashed) > 0) {
+                            evictSnapshot(user.getEmail(), user.getUserPk());
+                        }
+                    })
+                    .exceptionally(ex -> null);
+        } catch (RejectedExecutionException e) {
+            // 해시 풀 포화: 이번에는 건너뜀
         }
+    }
 
-        // 새 비밀번호 암호화 후 저장
-        String encodedNewPassword = passwordEncoder.encode(request.getNewPassword());
-        user.setPassword(encodedNewPassword);
+    // 비밀번호 확인/변경용 스냅샷 조회 (없는 사용자는 IllegalArgumentException)
+    private UserSnapshot findSnapshotOrThrow(String email) {
+        UserSnapshot user = snapshotsByEmail.get(email);
+        if (user == null) {
+            user = loadSnapshot(() -> userRepository.findByEmail(email)
+                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다.")));
+        }
+        return user;
     }
 
     /**
@@ -112,5 +315,10 @@ public class UserService {
         user.setIsDeleted(true);
         user.setDeletedAt(LocalDateTime.now());
         userRepository.save(user);
+        evictSnapshot(user);
+
+        // 탈퇴 전에 발급된 토큰은 모두 무효
+        Long userPk = user.getUserPk();
+        TransactionalInvalidation.run(() -> tokenRevocationRegistry.revokeAllFor(userPk));
     }
 }
@@ -1,5 +1,6 @@
 package com.hyupmin.service.vote;
 
+import com.hyupmin.config.auth.AuthenticatedUser;
 import lombok.RequiredArgsConstructor;
 import com.hyupmin.domain.post.Post;
 import com.hyupmin.domain.user.User;
@@ -14,6 +15,7 @@ import com.hyupmin.repository.user.UserRepository;
 import com.hyupmin.repository.vote.VoteOptionRepository;
 import com.hyupmin.repository.vote.VoteRecordRepository;
 import com.hyupmin.repository.vote.VoteRepository;
+import com.hyupmin.service.post.PostDetailCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,8 +35,9 @@ public class VoteService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final VoteRepository voteRepository;
+    private final PostDetailCache postDetailCache;
 
-    public void castVote(Long optionId, String userEmail) {
+    public void castVote(Long optionId, AuthenticatedUser loginUser) {
 
         VoteOption option = voteOptionRepository.findById(optionId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 항목입니다."));
@@ -44,8 +47,7 @@ public class VoteService {
             throw new IllegalStateException("이미 마감된 투표입니다.");
         }
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        User user = userRepository.getReferenceById(loginUser.getUserPk());
 
 
         if (Boolean.FALSE.equals(vote.getAllowMultipleChoices())) {
@@ -67,19 +69,16 @@ public class VoteService {
         voteRecordRepository.save(record);
 
         option.increaseCount();
+        postDetailCache.invalidate(vote.getPost().getPostPk());
     }
 
-    public VoteResponse createVote(VoteCreateRequest request, String userEmail) {
+    public VoteResponse createVote(VoteCreateRequest request, AuthenticatedUser loginUser) {
 
 
         Post post = postRepository.findById(request.getPostId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 게시글입니다."));
 
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-
         Vote vote = Vote.builder()
                 .post(post)
                 .title(request.getTitle())
@@ -107,11 +106,12 @@ public class VoteService {
 
         // 4. 저장 (cascade 때문에 옵션도 같이 저장)
         Vote saved = voteRepository.save(vote);
+        postDetailCache.invalidate(post.getPostPk());
 
         return new VoteResponse(saved);
     }
 
-    public void reCastVote(Long optionId, String userEmail) {
+    public void reCastVote(Long optionId, AuthenticatedUser loginUser) {
         VoteOption newOption = voteOptionRepository.findById(optionId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표 항목입니다."));
         Vote vote = newOption.getVote();
@@ -121,8 +121,10 @@ public class VoteService {
             throw new IllegalStateException("이미 마감된 투표입니다.");
         }
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        User user = userRepository.getReferenceById(loginUser.getUserPk());
+
+        // 득표수/투표자 목록이 바뀌므로 상세 캐시 무효화
+        postDetailCache.invalidate(vote.getPost().getPostPk());
 
         // 단일 투표
         if (Boolean.FALSE.equals(vote.getAllowMultipleChoices())) {
@@ -180,14 +182,13 @@ public class VoteService {
      *   -> 이번 selectedOptionIds에 없는 것들은 삭제 & count 감소
      *   -> 이번 selectedOptionIds에 새로 들어온 것들만 추가 & count 증가
      */
-    public void reCastVoteAll(Long voteId, List<Long> selectedOptionIds, String userEmail) {
+    public void reCastVoteAll(Long voteId, List<Long> selectedOptionIds, AuthenticatedUser loginUser) {
 
         if (selectedOptionIds == null || selectedOptionIds.isEmpty()) {
             throw new IllegalArgumentException("최소 한 개 이상의 항목을 선택해야 합니다.");
         }
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        User user = userRepository.getReferenceById(loginUser.getUserPk());
 
         Vote vote = voteRepository.findById(voteId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 투표입니다."));
@@ -202,6 +203,9 @@ public class VoteService {
             throw new IllegalArgumentException("단일 선택 투표에서는 하나의 항목만 선택할 수 있습니다.");
         }
 
+        // 득표수/투표자 목록이 바뀌므로 상세 캐시 무효화
+        postDetailCache.invalidate(vote.getPost().getPostPk());
+
         // 1. 이 유저가 이 투표에서 했던 이전 선택 전체 조회
         List<VoteRecord> existingRecords =
                 voteRecordRepository.findByUserAndVoteOption_Vote(user, vote);
@@ -0,0 +1,145 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.domain.post.Post;
+import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.user.User;
+import com.hyupmin.repository.post.PostRepository;
+import com.hyupmin.repository.post.ProjectPostSequenceRepository;
+import com.hyupmin.repository.project.ProjectRepository;
+import com.hyupmin.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 번호 동시 발급 테스트
+ * - 여러 스레드가 같은 프로젝트에 글을 동시에 써도 번호가 겹치거나 비지 않는지 확인한다.
+ * - 트랜잭션마다 커밋해야 row 잠금 경합이 재현되므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest(properties = "spring.datasource.url=jdbc:h2:mem:allocator;LOCK_TIMEOUT=10000")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostNumberAllocator.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PostNumberAllocatorTest {
+
+    private static final int THREADS = 8;
+    private static final int POSTS_PER_THREAD = 25;
+
+    @Autowired
+    private PostNumberAllocator postNumberAllocator;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private ProjectPostSequenceRepository sequenceRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User user;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        postRepository.deleteAllInBatch();
+        sequenceRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        user = userRepository.save(new User("password", "작성자", "writer@hyupmin.com", "010-0000-0000", null));
+        project = projectRepository.save(new Project("동시 작성", user));
+    }
+
+    @Test
+    void 동시에_작성해도_번호가_겹치지_않고_연속된다() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> postNumberAllocator.initialize(project.getProjectPk()));
+
+        List<Long> numbers = writeConcurrently();
+
+        assertThat(numbers).doesNotHaveDuplicates();
+        assertThat(numbers).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, THREADS * POSTS_PER_THREAD).boxed().toList());
+    }
+
+    @Test
+    void 시퀀스_row가_없는_프로젝트에_동시에_첫_글을_써도_번호가_겹치지_않는다() throws Exception {
+        // 기동 시 초기화 이전 데이터처럼 row가 없는 상태에서 시작 (여러 스레드가 동시에 lazy 초기화)
+        assertThat(sequenceRepository.existsById(project.getProjectPk())).isFalse();
+
+        List<Long> numbers = writeConcurrently();
+
+        assertThat(numbers).doesNotHaveDuplicates();
+        assertThat(numbers).containsExactlyInAnyOrderElementsOf(
+                LongStream.rangeClosed(1, THREADS * POSTS_PER_THREAD).boxed().toList());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT last_post_number FROM project_post_sequences WHERE project_pk = ?",
+                Long.class, project.getProjectPk()))
+                .isEqualTo((long) THREADS * POSTS_PER_THREAD);
+    }
+
+    /**
+     * THREADS개 스레드가 각자 POSTS_PER_THREAD개 글을 한 트랜잭션씩 작성하고, 발급된 번호를 모아 반환
+     */
+    private List<Long> writeConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> issued = new ArrayList<>();
+                    for (int i = 0; i < POSTS_PER_THREAD; i++) {
+                        issued.add(transactionTemplate.execute(status -> write()));
+                    }
+                    return issued;
+                }));
+            }
+
+            start.countDown();
+            List<Long> numbers = new ArrayList<>();
+            for (Future<List<Long>> future : futures) {
+                numbers.addAll(future.get());
+            }
+            return numbers;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Long write() {
+        long postNumber = postNumberAllocator.next(project.getProjectPk());
+        postRepository.save(Post.builder()
+                .project(projectRepository.getReferenceById(project.getProjectPk()))
+                .user(userRepository.getReferenceById(user.getUserPk()))
+                .postNumber(postNumber)
+                .title("게시글 " + postNumber)
+                .content("내용")
+                .build());
+        return postNumber;
+    }
+}
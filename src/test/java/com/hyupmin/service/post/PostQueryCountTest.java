@@ -0,0 +1,167 @@
+package com.hyupmin.service.post;
+
+import com.hyupmin.domain.attachmentFile.AttachmentFile;
+import com.hyupmin.domain.post.Post;
+import com.hyupmin.domain.project.Project;
+import com.hyupmin.domain.project.ProjectStats;
+import com.hyupmin.domain.user.User;
+import com.hyupmin.domain.vote.Vote;
+import com.hyupmin.domain.vote.VoteOption;
+import com.hyupmin.domain.vote.VoteRecord;
+import com.hyupmin.dto.post.PostResponse;
+import com.hyupmin.dto.post.PostSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시판 조회 쿼리 수 테스트
+ * - PostService를 그대로 호출해, 데이터 양과 관계없이 고정된 수의 SQL만 나가는지 Hibernate 통계로 확인한다.
+ * - 목록 조회는 트랜잭션 없이(NOT_SUPPORTED) 실행되므로 테스트 데이터는 미리 커밋해 둔다. (테스트 트랜잭션 없음)
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.show-sql=false",
+        "file.dir=${java.io.tmpdir}/hyupmin-test/",
+        "file.layout-migration.enabled=false",
+        "post.view-count.flush-interval=3600000"
+})
+class PostQueryCountTest {
+
+    private static final int POSTS = 30;
+    private static final int VOTERS = 40;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private PostDetailCache postDetailCache;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @PersistenceContext
+    private EntityManager em;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+    private String prefix;
+    private User owner;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // 컨텍스트(DB)를 다른 테스트와 공유하므로 이메일이 겹치지 않게
+        prefix = UUID.randomUUID().toString().substring(0, 8);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            owner = new User("password", "작성자", prefix + "-owner@hyupmin.com", "010-0000-0000", null);
+            em.persist(owner);
+            project = new Project("쿼리 수", owner);
+            em.persist(project);
+            for (long number = 1; number <= POSTS; number++) {
+                em.persist(Post.builder()
+                        .project(project)
+                        .user(owner)
+                        .postNumber(number)
+                        .title("게시글 " + number)
+                        .content("본문 " + number)
+                        .build());
+            }
+            em.persist(new ProjectStats(project.getProjectPk(), (long) POSTS, 0L, 0L, 0L));
+        });
+    }
+
+    @Test
+    void 게시판_목록은_통계와_목록_두_번의_쿼리로_끝난다() {
+        statistics.clear();
+
+        Page<PostSummary> page = postService.getPostsByProject(project.getProjectPk(), null, null, PageRequest.of(0, 20));
+
+        assertThat(page.getTotalElements()).isEqualTo(POSTS);
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        // 목록은 프로젝션으로만 읽고 게시글 엔티티(본문/첨부/투표)는 로딩하지 않는다.
+        assertThat(statistics.getEntityStatistics(Post.class.getName()).getLoadCount()).isZero();
+    }
+
+    @Test
+    void 게시글_상세는_캐시_미스여도_투표자_수와_관계없이_최대_세_번의_쿼리로_끝난다() {
+        Long postPk = transactionTemplate.execute(status -> persistPostWithVoteAndFiles());
+        postDetailCache.invalidateAll();
+        statistics.clear();
+
+        // 비로그인 조회: 투표 여부(exists) 쿼리 없이 캐시 미스 로딩만
+        PostResponse response = postService.getPostById(postPk, null);
+
+        assertThat(response.getAttachmentIds()).hasSize(2);
+        assertThat(response.getVote().getOptions()).hasSize(2);
+        // 1) 게시글 + 작성자 + 투표 + 항목, 2) 첨부파일, 3) 투표 기록 + 투표자
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    // 실명 투표(항목 2개, 투표자 VOTERS명)와 첨부파일 2개가 있는 게시글
+    private Long persistPostWithVoteAndFiles() {
+        Post post = Post.builder()
+                .project(em.getReference(Project.class, project.getProjectPk()))
+                .user(em.getReference(User.class, owner.getUserPk()))
+                .postNumber((long) POSTS + 1)
+                .title("투표 게시글")
+                .content("본문")
+                .hasVoting(true)
+                .hasFile(true)
+                .build();
+
+        Vote vote = Vote.builder()
+                .post(post)
+                .title("점심 메뉴")
+                .startTime(LocalDateTime.now())
+                .isAnonymous(false)
+                .build();
+        VoteOption first = VoteOption.builder().content("한식").count(0).build();
+        VoteOption second = VoteOption.builder().content("양식").count(0).build();
+        vote.addOption(first);
+        vote.addOption(second);
+        post.setVote(vote);
+
+        for (int i = 0; i < VOTERS; i++) {
+            User voter = new User("password", "투표자" + i, prefix + "-voter" + i + "@hyupmin.com", "010-0000-0000", null);
+            em.persist(voter);
+            VoteOption option = i % 2 == 0 ? first : second;
+            option.addRecord(VoteRecord.builder().user(voter).build());
+            option.increaseCount();
+        }
+        em.persist(post);
+
+        for (int i = 0; i < 2; i++) {
+            em.persist(AttachmentFile.builder()
+                    .post(post)
+                    .originalFileName("file" + i + ".txt")
+                    .storedFileName(prefix + "-stored" + i)
+                    .filePath("/tmp/" + prefix + "-stored" + i)
+                    .fileSize(1L)
+                    .fileType("txt")
+                    .isDeleted(false)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        return post.getPostPk();
+    }
+}